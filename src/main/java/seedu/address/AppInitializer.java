@@ -0,0 +1,217 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PersonIndex;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackupStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.CompressionFormat;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.MappedAddressBook;
+import seedu.address.storage.MappedAddressBookStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, user prefs, storage and data of the application, for both the GUI and the headless mode.
+ * Nothing here uses JavaFX, so the headless mode never starts the JavaFX toolkit.
+ */
+class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file at {@code addressBookFilePath}.
+     * Files ending with {@link BinaryAddressBookStorage#FILE_EXTENSION} are stored as binary snapshots,
+     * which are memory-mapped if {@code config} enables it.
+     * Files ending with {@link SegmentedAddressBookStorage#FILE_EXTENSION} are manifests of segmented data,
+     * and all other files are JSON, which is compressed if {@code config} enables it.
+     */
+    static AddressBookStorage initAddressBookStorage(Config config, Path addressBookFilePath) {
+        String fileName = String.valueOf(addressBookFilePath.getFileName());
+        if (fileName.endsWith(SegmentedAddressBookStorage.FILE_EXTENSION)) {
+            logger.info("Using segmented data file : " + addressBookFilePath);
+            return new SegmentedAddressBookStorage(addressBookFilePath);
+        }
+        if (fileName.endsWith(BinaryAddressBookStorage.FILE_EXTENSION)) {
+            logger.info("Using binary data file : " + addressBookFilePath);
+            return config.isMemoryMappingEnabled()
+                    ? new MappedAddressBookStorage(addressBookFilePath)
+                    : new BinaryAddressBookStorage(addressBookFilePath);
+        }
+        return new JsonAddressBookStorage(addressBookFilePath,
+                config.isDataCompressionEnabled() ? CompressionFormat.GZIP : CompressionFormat.NONE);
+    }
+
+    /**
+     * Returns the {@code Storage} for the address book and user prefs, which backs up the data file
+     * to the {@code backups} directory beside it if {@code config} sets an interval between backups.
+     */
+    static Storage initStorage(Config config, AddressBookStorage addressBookStorage,
+            UserPrefsStorage userPrefsStorage) {
+        if (config.getBackupIntervalMinutes() <= 0) {
+            return new StorageManager(addressBookStorage, userPrefsStorage);
+        }
+        Path backupDirectory = addressBookStorage.getAddressBookFilePath().resolveSibling("backups");
+        return new StorageManager(addressBookStorage, userPrefsStorage, new BackupStorage(backupDirectory),
+                Duration.ofMinutes(config.getBackupIntervalMinutes()));
+    }
+
+    /**
+     * Replaces the data file with its backup {@code backupId}, leaving the data file as it is if that fails.
+     */
+    static void restoreBackup(Storage storage, String backupId) {
+        try {
+            storage.restoreAddressBook(backupId);
+            logger.info("Restored the data file from backup " + backupId);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not restore backup " + backupId + ": " + StringUtil.getDetails(e)
+                    + ". Starting with the data file as it is.");
+        }
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    static ReadOnlyAddressBook readAddressBook(Storage storage) {
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+            }
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            return new AddressBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            return new AddressBook();
+        }
+    }
+
+    /**
+     * Returns all the persons of {@code addressBook} in an address book that holds them in memory,
+     * if {@code addressBook} is memory-mapped, or {@code addressBook} itself otherwise. <br>
+     * An empty address book will be used instead if any of the mapped persons cannot be read.
+     */
+    static ReadOnlyAddressBook readAllPersons(ReadOnlyAddressBook addressBook) {
+        if (!(addressBook instanceof MappedAddressBook)) {
+            return addressBook;
+        }
+        try {
+            return ((MappedAddressBook) addressBook).readAll();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            return new AddressBook();
+        }
+    }
+
+    /**
+     * Gives {@code modelManager} the index of its persons saved by {@code storage}, if it is up to date.
+     *
+     * @return true if the saved index is used.
+     */
+    static boolean readPersonIndex(Storage storage, ModelManager modelManager) {
+        List<Person> persons = new ArrayList<>(modelManager.getAddressBook().getPersonList());
+        try {
+            Optional<PersonIndex> savedIndex = storage.readPersonIndex(persons);
+            return savedIndex.isPresent()
+                    && modelManager.setPersonIndex(savedIndex.get(), modelManager.getAddressBookVersion());
+        } catch (IOException e) {
+            logger.warning("Problem while reading the person index. Will be rebuilding it");
+            return false;
+        }
+    }
+}
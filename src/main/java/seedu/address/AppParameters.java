@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +15,15 @@ import seedu.address.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The parameter that runs the application without the GUI. */
+    public static final String HEADLESS_PARAMETER = "--headless";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private String restoreBackupId;
+    private boolean isHeadless;
+    private Path scriptPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,23 +33,86 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the ID of the backup to restore the data file from before it is read, or null if there is none.
+     */
+    public String getRestoreBackupId() {
+        return restoreBackupId;
+    }
+
+    public void setRestoreBackupId(String restoreBackupId) {
+        this.restoreBackupId = restoreBackupId;
+    }
+
+    /**
+     * Returns true if the application is to run without the GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the file of commands to execute without the GUI, or null if they are read from the standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
-        AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        return parse(parameters.getNamed());
+    }
 
-        String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+    /**
+     * Parses the raw command-line arguments {@code args}, as given to {@code main}, without starting JavaFX.
+     * Arguments of the form {@code --name=value} are named parameters, as in {@link Application.Parameters}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isHeadless = false;
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (arg.startsWith("--") && equals > 2) {
+                namedParameters.put(arg.substring(2, equals), arg.substring(equals + 1));
+            } else if (arg.equals(HEADLESS_PARAMETER)) {
+                isHeadless = true;
+            }
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+
+        AppParameters appParameters = parse(namedParameters);
+        appParameters.setHeadless(isHeadless);
+        return appParameters;
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
+        AppParameters appParameters = new AppParameters();
+
+        appParameters.setConfigPath(parsePath(namedParameters.get("config"), "config"));
+        appParameters.setRestoreBackupId(namedParameters.get("restore"));
+        appParameters.setScriptPath(parsePath(namedParameters.get("script"), "script"));
 
         return appParameters;
     }
 
+    private static Path parsePath(String pathParameter, String parameterName) {
+        if (pathParameter != null && !FileUtil.isValidPath(pathParameter)) {
+            logger.warning("Invalid " + parameterName + " path " + pathParameter + ". Using default "
+                    + parameterName + " path.");
+            return null;
+        }
+        return pathParameter != null ? Paths.get(pathParameter) : null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +124,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getRestoreBackupId(), otherAppParameters.getRestoreBackupId())
+                && isHeadless() == otherAppParameters.isHeadless()
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, restoreBackupId, isHeadless, scriptPath);
     }
 }
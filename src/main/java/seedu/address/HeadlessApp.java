@@ -0,0 +1,221 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.PipelinedCommandExecutor;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.ui.HelpWindow;
+
+/**
+ * Runs the application without the GUI, executing commands read from a script file or the standard input and
+ * printing their results to the standard output, and their errors to the standard error.
+ * The JavaFX toolkit is never started, so this runs on machines without a display, and starts quickly enough
+ * to be used in shell pipelines.
+ * <p>
+ * Commands typed at a terminal are executed and saved one at a time, until {@code exit}. Commands read from a file
+ * or a pipe are executed as a script by a {@link PipelinedCommandExecutor}, which saves far less often.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String PROMPT = "> ";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final PrintStream out;
+    private final PrintStream err;
+    private final List<BackgroundTask> backgroundTasks = new ArrayList<>();
+
+    private Storage storage;
+    private Model model;
+
+    /**
+     * Creates a {@code HeadlessApp} with {@code appParameters}, printing results to {@code out}
+     * and errors to {@code err}.
+     */
+    public HeadlessApp(AppParameters appParameters, PrintStream out, PrintStream err) {
+        requireNonNull(appParameters);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.appParameters = appParameters;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs the application, executing the commands in the script file given in the parameters,
+     * or else the commands read from {@code in}, which are typed at a terminal if {@code isInteractive}.
+     *
+     * @return {@link #EXIT_SUCCESS}, {@link #EXIT_COMMAND_FAILED} if any command of a script failed,
+     *     or {@link #EXIT_ERROR} if the commands could not be read or their changes could not be saved.
+     */
+    public int run(InputStream in, boolean isInteractive) {
+        requireNonNull(in);
+        // the console is left to the results, so only problems are logged there
+        LogsCenter.setConsoleLogLevel(Level.WARNING);
+        init();
+
+        Path scriptPath = appParameters.getScriptPath();
+        try {
+            if (scriptPath != null) {
+                try (BufferedReader script = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+                    return runScript(script);
+                }
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return isInteractive ? runInteractive(reader) : runScript(reader);
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_READ_ERROR, scriptPath != null ? scriptPath : "standard input",
+                    e.getMessage()));
+            return EXIT_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return EXIT_ERROR;
+        }
+    }
+
+    private void init() {
+        logger.info("Initializing AddressBook " + MainApp.VERSION + " without the GUI");
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage =
+                AppInitializer.initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
+        storage = AppInitializer.initStorage(config, addressBookStorage, userPrefsStorage);
+
+        LogsCenter.init(config);
+
+        if (appParameters.getRestoreBackupId() != null) {
+            AppInitializer.restoreBackup(storage, appParameters.getRestoreBackupId());
+        }
+
+        ReadOnlyAddressBook initialData = AppInitializer.readAllPersons(AppInitializer.readAddressBook(storage));
+        ModelManager modelManager = new ModelManager(initialData, userPrefs);
+        // a saved index is used if there is one, but otherwise it is only built once a command needs it
+        AppInitializer.readPersonIndex(storage, modelManager);
+        model = modelManager;
+    }
+
+    /**
+     * Executes the commands typed at the terminal one at a time, saving after each, until the input ends or
+     * a command exits.
+     */
+    private int runInteractive(BufferedReader reader) throws IOException {
+        Logic logic = new LogicManager(model, storage);
+        out.print(PROMPT);
+        out.flush();
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            String commandText = line.trim();
+            if (!commandText.isEmpty()) {
+                try {
+                    CommandResult commandResult = logic.execute(commandText);
+                    print(commandResult);
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    err.println(e.getMessage());
+                }
+            }
+            out.print(PROMPT);
+            out.flush();
+        }
+        awaitBackgroundTasks();
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Executes the commands in {@code script}, printing the result of each in the order of the script.
+     */
+    private int runScript(BufferedReader script) throws IOException, InterruptedException {
+        PipelinedCommandExecutor executor = new PipelinedCommandExecutor(new AddressBookParser(), model, storage);
+        PipelinedCommandExecutor.Result result;
+        try {
+            result = executor.execute(script, new PipelinedCommandExecutor.ResultListener() {
+                @Override
+                public void executed(int lineNumber, CommandResult commandResult) {
+                    print(commandResult);
+                }
+
+                @Override
+                public void failed(PipelinedCommandExecutor.CommandError error) {
+                    err.println(error);
+                }
+            });
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            return EXIT_ERROR;
+        }
+        boolean isAllDone = awaitBackgroundTasks();
+        return result.getErrors().isEmpty() && isAllDone ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    private void print(CommandResult commandResult) {
+        out.println(commandResult.isShowHelp() ? HelpWindow.HELP_MESSAGE : commandResult.getFeedbackToUser());
+        commandResult.getBackgroundTask().ifPresent(task -> {
+            backgroundTasks.add(task);
+            task.getResult().whenComplete((feedback, error) -> {
+                if (error == null) {
+                    out.println(feedback);
+                } else {
+                    err.println(error instanceof CompletionException ? error.getCause().getMessage()
+                            : error.getMessage());
+                }
+            });
+        });
+    }
+
+    /**
+     * Waits for the work that commands left to do in the background, such as large exports, which would
+     * otherwise be cut short when the application exits.
+     *
+     * @return true if all of it succeeded.
+     */
+    private boolean awaitBackgroundTasks() {
+        boolean isAllDone = true;
+        for (BackgroundTask task : backgroundTasks) {
+            try {
+                task.getResult().join();
+            } catch (CompletionException e) {
+                isAllDone = false;
+            }
+        }
+        return isAllDone;
+    }
+}
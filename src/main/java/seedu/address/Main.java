@@ -17,9 +17,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --headless}, the application runs without the GUI instead, and JavaFX is never launched.
  */
 public class Main {
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            boolean isInteractive = appParameters.getScriptPath() == null && System.console() != null;
+            System.exit(new HeadlessApp(appParameters, System.out, System.err).run(System.in, isInteractive));
+        }
         Application.launch(MainApp.class, args);
     }
 }
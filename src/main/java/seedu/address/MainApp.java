@@ -1,8 +1,12 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -11,22 +15,23 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.person.Person;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.DataFileWatcher;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBook;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -38,6 +43,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 0, true);
 
+    /** The number of persons to load before the window is shown when the rest is loaded in the background. */
+    private static final int FIRST_BATCH_SIZE = 100;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +54,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private CompletableFuture<ReadOnlyAddressBook> pendingAddressBook;
+    private DataFileWatcher dataFileWatcher;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -56,128 +67,190 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
+        storage = AppInitializer.initStorage(config, addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
+        if (appParameters.getRestoreBackupId() != null) {
+            AppInitializer.restoreBackup(storage, appParameters.getRestoreBackupId());
+        }
+
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        if (pendingAddressBook != null) {
+            logicManager.setPendingAddressBook(pendingAddressBook);
+        }
+        logic = logicManager;
+        if (pendingAddressBook == null) {
+            initPersonIndex((ModelManager) model);
+        }
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the {@code AddressBookStorage} for the data file at {@code addressBookFilePath}.
+     *
+     * @see AppInitializer#initAddressBookStorage(Config, Path)
+     */
+    protected AddressBookStorage initAddressBookStorage(Path addressBookFilePath) {
+        return AppInitializer.initAddressBookStorage(config, addressBookFilePath);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}.
+     * If {@code storage}'s address book is memory-mapped, only its first persons are loaded here
+     * and the rest are loaded in the background.
+     *
+     * @see AppInitializer#readAddressBook(Storage)
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
+        ReadOnlyAddressBook initialData = AppInitializer.readAddressBook(storage);
+        if (initialData instanceof MappedAddressBook) {
+            try {
+                initialData = initLazyLoading((MappedAddressBook) initialData);
+            } catch (DataConversionException e) {
+                logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+                initialData = new AddressBook();
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Gives {@code modelManager} the index of its persons saved by {@code storage}.
+     * If there is no up-to-date saved index, it is built in the background and then saved,
+     * unless the persons have changed by the time it is built.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+    private void initPersonIndex(ModelManager modelManager) {
+        if (AppInitializer.readPersonIndex(storage, modelManager)) {
+            return;
         }
+        List<Person> persons = new ArrayList<>(modelManager.getAddressBook().getPersonList());
+        long version = modelManager.getAddressBookVersion();
 
-        logger.info("Using config file : " + configFilePathUsed);
+        logger.info("Building the person index in the background");
+        CompletableFuture.supplyAsync(() -> PersonIndex.of(persons)).thenAccept(index -> logic.runOnModelThread(() -> {
+            // saved on the model thread, so that the data file cannot be saved at the same time
+            if (!modelManager.setPersonIndex(index, version)) {
+                return;
+            }
+            try {
+                storage.savePersonIndex(index, persons);
+            } catch (IOException e) {
+                logger.warning("Failed to save the person index : " + StringUtil.getDetails(e));
+            }
+        }));
+    }
 
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
+    /**
+     * Returns the first persons of {@code mappedData} and starts loading all of it in the background.
+     * An empty address book is loaded instead if any of the remaining persons cannot be read.
+     */
+    private ReadOnlyAddressBook initLazyLoading(MappedAddressBook mappedData) throws DataConversionException {
+        ReadOnlyAddressBook firstPersons = mappedData.readFirstPersons(FIRST_BATCH_SIZE);
+        if (firstPersons.getPersonList().size() == mappedData.size()) {
+            return firstPersons;
         }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+        logger.info("Loading the remaining persons of " + mappedData + " in the background");
+        pendingAddressBook = CompletableFuture.supplyAsync(() -> AppInitializer.readAllPersons(mappedData));
+        return firstPersons;
+    }
+
+    /**
+     * Starts watching the data file, so that changes made to it by other programs are applied to the model.
+     */
+    private void startDataFileWatcher() {
+        dataFileWatcher = new DataFileWatcher(storage.getAddressBookFilePath(), this::applyDataFileChanges);
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            dataFileWatcher.start();
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning("Failed to watch the data file for changes : " + StringUtil.getDetails(e));
+            dataFileWatcher = null;
         }
-        return initializedConfig;
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Reads the changed data file and applies the persons that differ to the model.
+     * Called on the watcher's thread, but the file is read on the model thread, where it is also saved,
+     * so that reading it never races with a save.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
+    private void applyDataFileChanges() {
+        logic.runOnModelThread(() -> {
+            Optional<ReadOnlyAddressBook> changedData;
+            try {
+                // the app's own saves are seen as changes too, but the model already has them
+                if (!Files.exists(storage.getAddressBookFilePath()) || storage.isAddressBookFileAsSaved()) {
+                    return;
+                }
+                changedData = storage.readAddressBook();
+            } catch (DataConversionException | IOException e) {
+                // the file may still be being written, in which case it is read again once it changes
+                logger.warning("Could not read the changed data file : " + StringUtil.getDetails(e));
+                return;
+            }
 
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initializedPrefs = new UserPrefs();
-        }
+            changedData.ifPresent(data -> {
+                AddressBookDiff diff = model.updateAddressBook(data);
+                if (!diff.isEmpty()) {
+                    logger.info("Applied changes made to the data file by another program : " + diff);
+                }
+            });
+        });
+    }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
 
-        return initializedPrefs;
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}.
+     *
+     * @see AppInitializer#initConfig(Path)
+     */
+    protected Config initConfig(Path configFilePath) {
+        return AppInitializer.initConfig(configFilePath);
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     *
+     * @see AppInitializer#initPrefs(UserPrefsStorage)
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (config.isDataFileWatchingEnabled()) {
+            startDataFileWatcher();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         try {
-            storage.saveUserPrefs(model.getUserPrefs());
+            if (dataFileWatcher != null) {
+                dataFileWatcher.close();
+            }
         } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            logger.warning("Failed to stop watching the data file " + StringUtil.getDetails(e));
         }
+        // saved after the commands still running, which also lets them finish saving the data file before exiting
+        logic.runOnModelThread(() -> {
+            try {
+                storage.saveUserPrefs(model.getUserPrefs());
+            } catch (IOException e) {
+                logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            }
+        }).join();
     }
 }
@@ -0,0 +1,45 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Tells long-running work that it has been cancelled, such as by the user pressing Esc.
+ * The work checks the token between chunks of itself, and stops with a {@link CancellationException} once it
+ * is cancelled. Work that changes the model only checks it before making its changes, so that cancelled work
+ * leaves the model as it was.
+ */
+public class CancellationToken {
+
+    /** A token that is never cancelled, for work that cannot be cancelled. */
+    public static final CancellationToken NONE = new CancellationToken() {
+        @Override
+        public void cancel() {
+            throw new UnsupportedOperationException("This token cannot be cancelled");
+        }
+    };
+
+    /** The number of items that work is suggested to process between checks of its token. */
+    public static final int CHUNK_SIZE = 1024;
+
+    private volatile boolean isCancelled;
+
+    /**
+     * Cancels the work given this token. Work that is running stops at its next check of the token.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Throws a {@code CancellationException} if this token has been cancelled.
+     */
+    public void throwIfCancelled() {
+        if (isCancelled) {
+            throw new CancellationException();
+        }
+    }
+}
@@ -15,6 +15,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean memoryMappingEnabled = false;
+    private boolean dataCompressionEnabled = false;
+    private boolean dataFileWatchingEnabled = false;
+    private int backupIntervalMinutes = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +36,54 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if binary data files should be memory-mapped and loaded lazily.
+     * This is off by default, because some platforms do not allow a mapped file to be replaced when saving.
+     */
+    public boolean isMemoryMappingEnabled() {
+        return memoryMappingEnabled;
+    }
+
+    public void setMemoryMappingEnabled(boolean memoryMappingEnabled) {
+        this.memoryMappingEnabled = memoryMappingEnabled;
+    }
+
+    /**
+     * Returns true if json data files should be saved compressed.
+     * Compressed and uncompressed data files can be read either way.
+     */
+    public boolean isDataCompressionEnabled() {
+        return dataCompressionEnabled;
+    }
+
+    public void setDataCompressionEnabled(boolean dataCompressionEnabled) {
+        this.dataCompressionEnabled = dataCompressionEnabled;
+    }
+
+    /**
+     * Returns true if the data file should be watched for changes made by other programs, such as sync tools,
+     * which are then applied to the address book.
+     */
+    public boolean isDataFileWatchingEnabled() {
+        return dataFileWatchingEnabled;
+    }
+
+    public void setDataFileWatchingEnabled(boolean dataFileWatchingEnabled) {
+        this.dataFileWatchingEnabled = dataFileWatchingEnabled;
+    }
+
+    /**
+     * Returns the least number of minutes between backups of the data file, which are taken when it is saved.
+     * Backups are not taken if this is 0 or less.
+     */
+    public int getBackupIntervalMinutes() {
+        return backupIntervalMinutes;
+    }
+
+    public void setBackupIntervalMinutes(int backupIntervalMinutes) {
+        this.backupIntervalMinutes = backupIntervalMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +96,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && memoryMappingEnabled == o.memoryMappingEnabled
+                && dataCompressionEnabled == o.dataCompressionEnabled
+                && dataFileWatchingEnabled == o.dataFileWatchingEnabled
+                && backupIntervalMinutes == o.backupIntervalMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, memoryMappingEnabled, dataCompressionEnabled,
+                dataFileWatchingEnabled, backupIntervalMinutes);
     }
 
     @Override
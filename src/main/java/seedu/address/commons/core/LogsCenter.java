@@ -35,6 +35,17 @@ public class LogsCenter {
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
+    /**
+     * Sets the level of the messages logged to the console, such as to keep the console quiet while the output
+     * of the application is read by another program. Messages are still logged to the log file as before.
+     */
+    public static void setConsoleLogLevel(Level level) {
+        if (consoleHandler == null) {
+            consoleHandler = createConsoleHandler();
+        }
+        consoleHandler.setLevel(level);
+    }
+
     /**
      * Creates a logger with the given name.
      */
@@ -9,5 +9,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_COMMAND_CANCELLED = "Cancelled: %1$s\nThe address book is unchanged.";
+    public static final String MESSAGE_BACKGROUND_TASK_CANCELLED = "Cancelled the work going on in the background";
 
 }
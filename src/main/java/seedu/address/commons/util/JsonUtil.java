@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,15 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -110,6 +118,87 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Reads an instance of a class from the JSON data in {@code in}, without holding all of the data in memory.
+     * {@code in} is left open, and may have been read past the end of the JSON data.
+     */
+    public static <T> T readJsonStream(InputStream in, Class<T> instanceClass) throws IOException {
+        return objectMapper.readerFor(instanceClass).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(in);
+    }
+
+    /**
+     * Writes a given instance of a class to {@code out} as JSON data, without holding all of the data in memory.
+     * {@code out} is left open.
+     */
+    public static <T> void writeJsonStream(T instance, OutputStream out) throws IOException {
+        objectMapper.writerWithDefaultPrettyPrinter().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(out, instance);
+    }
+
+    /**
+     * Reads the elements of the array {@code fieldName} of the JSON object in {@code in} one at a time,
+     * giving each to {@code handler} as an instance of {@code elementClass}, so that the array is never
+     * held in memory. The other fields of the object are skipped. {@code in} is left open.
+     *
+     * @throws IOException if the data is not such an object.
+     * @throws IllegalValueException if {@code handler} rejects an element.
+     */
+    public static <T> void readJsonArrayStream(InputStream in, String fieldName, Class<T> elementClass,
+            ElementHandler<T> handler) throws IOException, IllegalValueException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!name.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected " + fieldName + " to be an array");
+                }
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of " + fieldName);
+                    }
+                    handler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes {@code elements} to {@code out} as JSON data, as the array {@code fieldName} of an object with no
+     * other fields. Each element is written as soon as it is reached, so the array is never held in memory.
+     * {@code out} is left open.
+     */
+    public static <T> void writeJsonArrayStream(String fieldName, Iterable<T> elements, OutputStream out)
+            throws IOException {
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            for (T element : elements) {
+                elementWriter.writeValue(generator, element);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Handles the elements of a JSON array as they are read.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,41 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as one, so that either all of them take effect or none of them do,
+     * and returns the result.
+     * The address book is saved once, after all of the commands have been executed.
+     * @param commandTexts The commands, one per element. Blank elements and comments are skipped.
+     * @return the result of the batch execution, including its throughput.
+     * @throws CommandException If any of the commands cannot be parsed or executed, or the data cannot be saved.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException;
+
+    /**
+     * Executes the command on the model thread and returns its result without waiting for it.
+     * Commands are parsed, executed and saved one at a time, in the order they are given,
+     * and their changes to the filtered list of persons are shown on the JavaFX application thread.
+     * The command can be cancelled with {@link #cancelCommands()} until it is done.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which fails with a {@link CommandException} or
+     *     {@link ParseException} when {@link #execute(String)} would throw one.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Cancels the commands given to {@link #executeAsync(String)} that are not done yet. Each is skipped if it has
+     * not started, or else stopped at its next check of its {@link seedu.address.commons.core.CancellationToken},
+     * and its result then fails with a {@code CancellationException}. Cancelled commands leave the model as it was,
+     * while commands that are done before they can be stopped take effect as usual.
+     */
+    void cancelCommands();
+
+    /**
+     * Runs {@code task} on the model thread, after the commands already given and before any given later,
+     * so that it never changes the model or saves the data file while a command does.
+     */
+    CompletableFuture<Void> runOnModelThread(Runnable task);
+
     /**
      * Returns the AddressBook.
      *
@@ -30,7 +67,10 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of persons, which is only updated,
+     * and must only be used, on the JavaFX application thread.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -1,12 +1,26 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.CancellationToken;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,6 +33,9 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands are executed one at a time, either on the calling thread or, when executed asynchronously,
+ * on a model thread of their own, so that the UI thread never waits for them.
+ * The model is only used while holding the lock of this manager, whichever thread uses it.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
@@ -27,23 +44,139 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AtomicReference<CompletableFuture<? extends ReadOnlyAddressBook>> pendingAddressBook =
+            new AtomicReference<>();
+    private final Executor uiExecutor;
+    /** Guards the creation of the model thread, which must not wait for the commands that hold this manager. */
+    private final Object modelExecutorLock = new Object();
+    private volatile ExecutorService modelExecutor;
+    /** The cancellation tokens of the commands given to {@link #executeAsync(String)} that are not done yet. */
+    private final Set<CancellationToken> asyncCommandTokens = ConcurrentHashMap.newKeySet();
+    private ObservablePersonList filteredPersonList;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which shows
+     * the changes to the filtered person list on the UI thread of {@code uiExecutor}.
+     */
+    LogicManager(Model model, Storage storage, Executor uiExecutor) {
         this.model = model;
         this.storage = storage;
+        this.uiExecutor = requireNonNull(uiExecutor);
         addressBookParser = new AddressBookParser();
     }
 
+    /**
+     * Sets the address book that is still being loaded in the background.
+     * Once it is loaded, it replaces the address book in the model.
+     * Commands executed before then wait for it, so they never see a partially loaded address book.
+     */
+    public void setPendingAddressBook(CompletableFuture<? extends ReadOnlyAddressBook> pendingAddressBook) {
+        requireNonNull(pendingAddressBook);
+        this.pendingAddressBook.set(pendingAddressBook);
+        pendingAddressBook.thenRunAsync(this::installPendingAddressBook, getModelExecutor());
+    }
+
+    private synchronized void installPendingAddressBook() {
+        CompletableFuture<? extends ReadOnlyAddressBook> pending = pendingAddressBook.getAndSet(null);
+        if (pending != null) {
+            logger.info("Installing the address book loaded in the background");
+            model.setAddressBook(pending.join());
+        }
+    }
+
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, CancellationToken.NONE);
+    }
+
+    private synchronized CommandResult execute(String commandText, CancellationToken cancellationToken)
+            throws CommandException, ParseException {
+        cancellationToken.throwIfCancelled();
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        installPendingAddressBook();
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeAndSave(command, cancellationToken);
+    }
+
+    @Override
+    public synchronized CommandResult executeBatch(List<String> commandTexts) throws CommandException {
+        logger.info("----------------[BATCH][" + commandTexts.size() + " commands]");
+        installPendingAddressBook();
+
+        return executeAndSave(new BatchCommand(addressBookParser, commandTexts), CancellationToken.NONE);
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        requireNonNull(commandText);
+        CancellationToken cancellationToken = new CancellationToken();
+        asyncCommandTokens.add(cancellationToken);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        getModelExecutor().execute(() -> {
+            try {
+                result.complete(execute(commandText, cancellationToken));
+            } catch (CancellationException e) {
+                logger.info("Cancelled: " + commandText);
+                result.completeExceptionally(e);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            } finally {
+                asyncCommandTokens.remove(cancellationToken);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void cancelCommands() {
+        asyncCommandTokens.forEach(CancellationToken::cancel);
+    }
+
+    @Override
+    public CompletableFuture<Void> runOnModelThread(Runnable task) {
+        requireNonNull(task);
+        return CompletableFuture.runAsync(() -> {
+            synchronized (this) {
+                task.run();
+            }
+        }, getModelExecutor());
+    }
+
+    /**
+     * Returns the executor of the model thread, starting the thread the first time it is needed.
+     */
+    private ExecutorService getModelExecutor() {
+        if (modelExecutor != null) {
+            return modelExecutor;
+        }
+        synchronized (modelExecutorLock) {
+            if (modelExecutor == null) {
+                modelExecutor = Executors.newSingleThreadExecutor(task -> {
+                    Thread thread = new Thread(task, "model");
+                    // the thread never keeps the application running by itself
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return modelExecutor;
+        }
+    }
+
+    /**
+     * Executes {@code command} and saves the address book.
+     * Once the command has been executed, its changes are saved even if it is cancelled meanwhile.
+     */
+    private CommandResult executeAndSave(Command command, CancellationToken cancellationToken)
+            throws CommandException {
+        CommandResult commandResult = command.execute(model, cancellationToken);
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -55,27 +188,32 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ReadOnlyAddressBook getAddressBook() {
+    public synchronized ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+    public synchronized ObservableList<Person> getFilteredPersonList() {
+        // only built when the UI asks for it, so that running without the UI never makes JavaFX change events
+        if (filteredPersonList == null) {
+            filteredPersonList = new ObservablePersonList(model.getFilteredPersonList(), uiExecutor);
+            model.addFilteredPersonListListener(filteredPersonList);
+        }
+        return filteredPersonList;
     }
 
     @Override
-    public Path getAddressBookFilePath() {
+    public synchronized Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
     }
 
     @Override
-    public GuiSettings getGuiSettings() {
+    public synchronized GuiSettings getGuiSettings() {
         return model.getGuiSettings();
     }
 
     @Override
-    public void setGuiSettings(GuiSettings guiSettings) {
+    public synchronized void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
 }
@@ -0,0 +1,95 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.PersonListListener;
+
+/**
+ * An unmodifiable {@code ObservableList} copy of a list of persons, for the UI to show.
+ * It must be added as a listener of the list, and applies the changes to the list to its copy on the UI thread,
+ * which it is given as an {@code Executor}. The changes made while the UI thread is busy are applied together,
+ * and told to its JavaFX listeners as one JavaFX change. The model itself has no JavaFX listeners, so only
+ * the lists the UI shows pay for JavaFX change events.
+ */
+class ObservablePersonList extends ObservableListBase<Person> implements PersonListListener {
+
+    private final Executor uiExecutor;
+    /** The persons as last shown. Only used on the UI thread. */
+    private final List<Person> shownPersons;
+    /** The changes to the list that are not shown yet, in the order they were made. */
+    private final List<PersonListChange> pendingChanges = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code persons}, which must not be changing at the time, that is kept up to date
+     * on {@code uiExecutor}.
+     */
+    ObservablePersonList(List<Person> persons, Executor uiExecutor) {
+        requireNonNull(persons);
+        requireNonNull(uiExecutor);
+        this.uiExecutor = uiExecutor;
+        this.shownPersons = new ArrayList<>(persons);
+    }
+
+    @Override
+    public Person get(int index) {
+        return shownPersons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shownPersons.size();
+    }
+
+    /**
+     * Queues {@code change} to be shown on the UI thread. Called on the thread that changed the list.
+     */
+    @Override
+    public void onChanged(PersonListChange change) {
+        boolean isShowPending;
+        synchronized (pendingChanges) {
+            isShowPending = !pendingChanges.isEmpty();
+            pendingChanges.add(change);
+        }
+        // a show that is already pending shows this change too
+        if (!isShowPending) {
+            uiExecutor.execute(this::showPendingChanges);
+        }
+    }
+
+    private void showPendingChanges() {
+        List<PersonListChange> changes;
+        synchronized (pendingChanges) {
+            changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        for (PersonListChange change : changes) {
+            for (PersonListChange.Range range : change.getRanges()) {
+                int from = range.getFrom();
+                int to = from + range.getAdded().size();
+                List<Person> replaced = shownPersons.subList(from, from + range.getRemoved().size());
+                replaced.clear();
+                replaced.addAll(range.getAdded());
+                if (range.getRemoved().isEmpty()) {
+                    nextAdd(from, to);
+                } else if (range.getAdded().isEmpty()) {
+                    nextRemove(from, range.getRemoved());
+                } else {
+                    nextReplace(from, to, range.getRemoved());
+                }
+            }
+        }
+        endChange();
+    }
+}
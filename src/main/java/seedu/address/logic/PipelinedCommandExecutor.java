@@ -0,0 +1,415 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Executes a script of commands, one per line, in three overlapping stages: the commands are parsed on a pool of
+ * worker threads, executed in their order in the script on a single thread that owns the model, and saved on an
+ * I/O thread. Bounded queues between the stages keep a fast stage from running too far ahead of a slow one.
+ * <p>
+ * Unlike {@link BatchCommand}, each command takes effect on its own: a command that fails is reported with its
+ * line number and the rest of the script is still executed, while a command that exits, such as {@code exit},
+ * ends the script. The address book is saved whenever the I/O thread is free, and once more after the last
+ * command, rather than after every command.
+ * <p>
+ * The model must not be used by any other thread while a script is executed, so this suits scripts run
+ * without the GUI.
+ */
+public class PipelinedCommandExecutor {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(PipelinedCommandExecutor.class);
+
+    /** How long the reader waits for space in the queue of parsed commands before checking on the executor. */
+    private static final long QUEUE_WAIT_MILLIS = 100;
+
+    /** Marks the end of the script in the queue of parsed commands. */
+    private static final ParsedLine END_OF_SCRIPT = new ParsedLine(0, null, null);
+    /** Marks the end of the snapshots in the queue of snapshots to save. */
+    private static final ReadOnlyAddressBook END_OF_SNAPSHOTS = new AddressBook();
+
+    private final AddressBookParser addressBookParser;
+    private final Model model;
+    private final Storage storage;
+    private final int parserThreadCount;
+    private final int queueCapacity;
+
+    /**
+     * Creates a {@code PipelinedCommandExecutor} that parses commands with {@code addressBookParser} on as many
+     * threads as there are processors, executes them on {@code model} and saves the address book to
+     * {@code storage}.
+     */
+    public PipelinedCommandExecutor(AddressBookParser addressBookParser, Model model, Storage storage) {
+        this(addressBookParser, model, storage, Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code PipelinedCommandExecutor} that parses commands on {@code parserThreadCount} threads,
+     * and lets at most {@code queueCapacity} parsed commands wait to be executed.
+     */
+    public PipelinedCommandExecutor(AddressBookParser addressBookParser, Model model, Storage storage,
+            int parserThreadCount, int queueCapacity) {
+        requireNonNull(addressBookParser);
+        requireNonNull(model);
+        requireNonNull(storage);
+        if (parserThreadCount < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("There must be at least one parser thread and queue slot");
+        }
+        this.addressBookParser = addressBookParser;
+        this.model = model;
+        this.storage = storage;
+        this.parserThreadCount = parserThreadCount;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Executes the commands in {@code script}, one per line, skipping blank lines and comments,
+     * and returns what was executed and which commands failed.
+     *
+     * @throws IOException if the script cannot be read. The commands read before then are still executed.
+     * @throws CommandException if the address book cannot be saved.
+     */
+    public Result execute(BufferedReader script) throws IOException, CommandException, InterruptedException {
+        return execute(script, new ResultListener() {
+            @Override
+            public void executed(int lineNumber, CommandResult commandResult) {}
+
+            @Override
+            public void failed(CommandError error) {}
+        });
+    }
+
+    /**
+     * Executes the commands in {@code script} as {@link #execute(BufferedReader)} does, telling
+     * {@code resultListener} the result of each command as soon as it is executed.
+     */
+    public Result execute(BufferedReader script, ResultListener resultListener)
+            throws IOException, CommandException, InterruptedException {
+        requireNonNull(script);
+        requireNonNull(resultListener);
+        long startTime = System.nanoTime();
+
+        BlockingQueue<ParsedLine> parsedLines = new ArrayBlockingQueue<>(queueCapacity);
+        // the executor only hands over a snapshot when the saver is free, and one more at the end
+        BlockingQueue<ReadOnlyAddressBook> snapshots = new LinkedBlockingQueue<>();
+        AtomicBoolean isSaving = new AtomicBoolean();
+        AtomicReference<IOException> saveError = new AtomicReference<>();
+        AtomicInteger saveCount = new AtomicInteger();
+        List<CommandError> errors = new ArrayList<>();
+        AtomicInteger executedCount = new AtomicInteger();
+
+        ExecutorService parserPool = Executors.newFixedThreadPool(parserThreadCount,
+                runnable -> newDaemonThread(runnable, "pipeline-parser"));
+        Thread executorThread = newDaemonThread(() -> executeAll(parsedLines, snapshots, isSaving, errors,
+                executedCount, resultListener), "pipeline-executor");
+        Thread saverThread = newDaemonThread(() -> saveAll(snapshots, isSaving, saveError, saveCount),
+                "pipeline-saver");
+        executorThread.start();
+        saverThread.start();
+
+        try {
+            int lineNumber = 0;
+            for (String line = script.readLine(); line != null; line = script.readLine()) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(BatchCommand.COMMENT_START)) {
+                    continue;
+                }
+                // queued in script order, so the commands are executed in that order whenever they are parsed
+                ParsedLine parsedLine = new ParsedLine(lineNumber, commandText, CompletableFuture.supplyAsync(() ->
+                        parse(commandText), parserPool));
+                if (!queue(parsedLines, parsedLine, executorThread)) {
+                    logger.warning("Script execution stopped before line " + lineNumber);
+                    break;
+                }
+            }
+        } finally {
+            queue(parsedLines, END_OF_SCRIPT, executorThread);
+            executorThread.join();
+            saverThread.join();
+            parserPool.shutdown();
+        }
+
+        if (saveError.get() != null) {
+            throw new CommandException(LogicManager.FILE_OPS_ERROR_MESSAGE + saveError.get(), saveError.get());
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        // the executor thread has finished, so its errors can be read
+        Result result = new Result(executedCount.get(), errors, saveCount.get(), elapsedNanos);
+        logger.info("Executed script: " + result);
+        return result;
+    }
+
+    /**
+     * Queues {@code parsedLine} to be executed, waiting for space in {@code parsedLines} unless the executor
+     * thread has stopped, such as when something it could not handle was thrown.
+     *
+     * @return false if the executor thread has stopped, so that nothing more will be executed.
+     */
+    private static boolean queue(BlockingQueue<ParsedLine> parsedLines, ParsedLine parsedLine,
+            Thread executorThread) throws InterruptedException {
+        while (!parsedLines.offer(parsedLine, QUEUE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (!executorThread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Command parse(String commandText) {
+        try {
+            return addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            throw new CompletionException(pe);
+        }
+    }
+
+    /**
+     * Executes the parsed commands in order until the end of the script, or until a command exits, handing a
+     * snapshot of the address book to the saver whenever it is free.
+     */
+    private void executeAll(BlockingQueue<ParsedLine> parsedLines, BlockingQueue<ReadOnlyAddressBook> snapshots,
+            AtomicBoolean isSaving, List<CommandError> errors, AtomicInteger executedCount,
+            ResultListener resultListener) {
+        boolean isDirty = false;
+        boolean isExited = false;
+        try {
+            for (ParsedLine parsedLine = parsedLines.take(); parsedLine != END_OF_SCRIPT;
+                    parsedLine = parsedLines.take()) {
+                // the rest of the script is still taken from the queue, so that the reader is never blocked
+                if (isExited) {
+                    continue;
+                }
+                CommandResult commandResult = null;
+                CommandError error = null;
+                try {
+                    commandResult = parsedLine.command.join().execute(model);
+                    executedCount.incrementAndGet();
+                    isDirty = true;
+                } catch (CompletionException e) {
+                    error = new CommandError(parsedLine.lineNumber, parsedLine.commandText,
+                            e.getCause().getMessage());
+                } catch (CommandException | RuntimeException e) {
+                    error = new CommandError(parsedLine.lineNumber, parsedLine.commandText, e.getMessage());
+                } catch (Throwable e) {
+                    // reported like any other failure, as the rest of the script is still to be executed
+                    logger.warning("Unexpected error executing line " + parsedLine.lineNumber + ": "
+                            + StringUtil.getDetails(e));
+                    error = new CommandError(parsedLine.lineNumber, parsedLine.commandText, e.toString());
+                }
+                if (commandResult != null) {
+                    isExited = commandResult.isExit();
+                } else {
+                    errors.add(error);
+                }
+                notify(resultListener, parsedLine.lineNumber, commandResult, error);
+
+                // copying the address book takes about as long as saving it, so it is only copied when it can be
+                // saved right away, which saves as often as the I/O thread can keep up with
+                if (isDirty && !isSaving.get() && snapshots.isEmpty()) {
+                    snapshots.put(new AddressBook(model.getAddressBook()));
+                    isDirty = false;
+                }
+            }
+            if (isDirty) {
+                snapshots.put(new AddressBook(model.getAddressBook()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Script execution interrupted");
+        } finally {
+            snapshots.add(END_OF_SNAPSHOTS);
+        }
+    }
+
+    /**
+     * Tells {@code resultListener} the result of the command on line {@code lineNumber}, which is
+     * {@code commandResult} if it was executed, or {@code error} otherwise.
+     * Whatever the listener throws is only logged, so that it cannot stop the rest of the script.
+     */
+    private static void notify(ResultListener resultListener, int lineNumber, CommandResult commandResult,
+            CommandError error) {
+        try {
+            if (commandResult != null) {
+                resultListener.executed(lineNumber, commandResult);
+            } else {
+                resultListener.failed(error);
+            }
+        } catch (Throwable e) {
+            logger.warning("Result listener failed on line " + lineNumber + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves the snapshots handed over by the executor thread until there are no more.
+     * Once a save fails, the remaining snapshots are discarded.
+     */
+    private void saveAll(BlockingQueue<ReadOnlyAddressBook> snapshots, AtomicBoolean isSaving,
+            AtomicReference<IOException> saveError, AtomicInteger saveCount) {
+        try {
+            for (ReadOnlyAddressBook snapshot = snapshots.take(); snapshot != END_OF_SNAPSHOTS;
+                    snapshot = snapshots.take()) {
+                if (saveError.get() != null) {
+                    continue;
+                }
+                isSaving.set(true);
+                try {
+                    storage.saveAddressBook(snapshot);
+                    saveCount.incrementAndGet();
+                } catch (IOException ioe) {
+                    logger.warning("Failed to save the address book: " + ioe);
+                    saveError.set(ioe);
+                } finally {
+                    isSaving.set(false);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Saving the script's changes interrupted");
+        }
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Receives the result of each command of a script, in the order of the script, on the thread that executes
+     * the commands.
+     */
+    public interface ResultListener {
+        /**
+         * Called when the command on line {@code lineNumber} has been executed.
+         */
+        void executed(int lineNumber, CommandResult commandResult);
+
+        /**
+         * Called when a command could not be parsed or executed.
+         */
+        void failed(CommandError error);
+    }
+
+    /**
+     * A command of the script, which is parsed or still being parsed.
+     */
+    private static class ParsedLine {
+        private final int lineNumber;
+        private final String commandText;
+        private final CompletableFuture<Command> command;
+
+        ParsedLine(int lineNumber, String commandText, CompletableFuture<Command> command) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.command = command;
+        }
+    }
+
+    /**
+     * A command of the script that could not be parsed or executed.
+     */
+    public static class CommandError {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        CommandError(int lineNumber, String commandText, String message) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + " (" + commandText + "): " + message;
+        }
+    }
+
+    /**
+     * What was executed of a script.
+     */
+    public static class Result {
+        private final int executedCount;
+        private final List<CommandError> errors;
+        private final int saveCount;
+        private final long elapsedNanos;
+
+        Result(int executedCount, List<CommandError> errors, int saveCount, long elapsedNanos) {
+            this.executedCount = executedCount;
+            this.errors = Collections.unmodifiableList(errors);
+            this.saveCount = saveCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getExecutedCount() {
+            return executedCount;
+        }
+
+        /**
+         * Returns the commands that could not be parsed or executed, in their order in the script.
+         */
+        public List<CommandError> getErrors() {
+            return errors;
+        }
+
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        public long getCommandsPerSecond() {
+            return executedCount * 1_000_000_000L / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return executedCount + " commands executed in " + elapsedNanos / 1_000_000 + " ms ("
+                    + getCommandsPerSecond() + " commands/s), " + errors.size() + " failed, saved "
+                    + saveCount + " times";
+        }
+    }
+}
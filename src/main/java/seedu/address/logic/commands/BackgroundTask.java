@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * The part of a command's work that goes on in the background after the command has returned its result,
+ * such as writing a large file. It must not touch the model, which may be changed by later commands meanwhile.
+ * It reports its progress as it goes, and finally gives feedback that replaces the command's own.
+ * It can be cancelled, in which case it stops at its next check of {@link #getCancellationToken()}.
+ */
+public class BackgroundTask {
+
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    private final CancellationToken cancellationToken = new CancellationToken();
+    private Consumer<String> progressListener = progress -> {};
+    /** The last progress message reported, or null if none has been reported yet. */
+    private String latestProgress;
+
+    private BackgroundTask() {}
+
+    /**
+     * Starts {@code work} on {@code executor} and returns the task doing it.
+     */
+    public static BackgroundTask start(Work work, Executor executor) {
+        requireNonNull(work);
+        requireNonNull(executor);
+        BackgroundTask task = new BackgroundTask();
+        executor.execute(() -> {
+            try {
+                task.cancellationToken.throwIfCancelled();
+                task.result.complete(work.run(task));
+            } catch (CommandException | RuntimeException e) {
+                task.result.completeExceptionally(e);
+            } catch (Throwable e) {
+                // completed all the same, or whatever waits for the task would wait forever
+                task.result.completeExceptionally(e);
+                throw e;
+            }
+        });
+        return task;
+    }
+
+    /**
+     * Returns the feedback to the user once the task is done.
+     * If the task fails, this completes exceptionally with the {@code CommandException} explaining why,
+     * or with a {@code CancellationException} if it is cancelled, or with whatever else the work threw.
+     */
+    public CompletableFuture<String> getResult() {
+        return result;
+    }
+
+    /**
+     * Sets the listener that is given each progress message reported from now on, starting with the last
+     * message reported before it was set, as the task may have made progress since it was started.
+     * It is called on the thread doing the task, and must return quickly.
+     */
+    public synchronized void setProgressListener(Consumer<String> progressListener) {
+        this.progressListener = requireNonNull(progressListener);
+        if (latestProgress != null) {
+            progressListener.accept(latestProgress);
+        }
+    }
+
+    /**
+     * Cancels the task. It stops at its next check of its cancellation token, if it is not done yet.
+     */
+    public void cancel() {
+        cancellationToken.cancel();
+    }
+
+    /**
+     * Returns the token that the work checks between chunks of itself, to stop once the task is cancelled.
+     */
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * Reports the progress of the task to its listener.
+     */
+    public synchronized void reportProgress(String progress) {
+        latestProgress = progress;
+        progressListener.accept(progress);
+    }
+
+    /**
+     * The work of a {@code BackgroundTask}.
+     */
+    @FunctionalInterface
+    public interface Work {
+        /**
+         * Does the work, reporting progress to {@code task}, and returns the feedback to the user.
+         *
+         * @throws CommandException if the work fails.
+         */
+        String run(BackgroundTask task) throws CommandException;
+    }
+}
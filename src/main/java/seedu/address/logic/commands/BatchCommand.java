@@ -0,0 +1,148 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Executes a sequence of commands as one: either all of them take effect, or none of them do.
+ * The commands are executed against a copy of the model, which replaces the address book in the model in a
+ * single change once they have all succeeded, so the address book is saved once and listeners are notified once.
+ * <p>
+ * Blank lines and lines starting with {@code #} are skipped, so that scripts can be commented.
+ * A cancelled batch stops before its next command, leaving the model as it was.
+ * Work that a command leaves to do in the background, such as a large export, is waited for before the next
+ * command, so that the batch fails if it fails and cancelling the batch cancels it too.
+ */
+public class BatchCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands in %2$d ms (%3$d commands/s)";
+    public static final String MESSAGE_FAILED = "Line %1$d failed: %2$s\n%3$s\nThe address book is unchanged.";
+    public static final String MESSAGE_NESTED_BATCH = "Scripts cannot run other scripts";
+
+    public static final String COMMENT_START = "#";
+
+    /** How often a batch waiting for the background work of a command checks whether it has been cancelled. */
+    private static final long CANCELLATION_CHECK_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final AddressBookParser addressBookParser;
+    private final List<String> commandTexts;
+
+    /**
+     * Creates a BatchCommand to execute {@code commandTexts}, one command per line, parsed with
+     * {@code addressBookParser}.
+     */
+    public BatchCommand(AddressBookParser addressBookParser, List<String> commandTexts) {
+        requireNonNull(addressBookParser);
+        requireNonNull(commandTexts);
+        this.addressBookParser = addressBookParser;
+        this.commandTexts = new ArrayList<>(commandTexts);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, CancellationToken.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CancellationToken cancellationToken) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(cancellationToken);
+
+        long startTime = System.nanoTime();
+        Model transaction = model.copy();
+        int executed = 0;
+        for (int i = 0; i < commandTexts.size(); i++) {
+            String commandText = commandTexts.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                continue;
+            }
+            try {
+                Command command = addressBookParser.parseCommand(commandText);
+                if (command instanceof BatchCommand || command instanceof RunCommand) {
+                    throw new CommandException(MESSAGE_NESTED_BATCH);
+                }
+                awaitBackgroundTask(command.execute(transaction, cancellationToken), cancellationToken);
+            } catch (CommandException | ParseException e) {
+                logger.info("Batch failed at line " + (i + 1) + ", rolling back: " + e.getMessage());
+                throw new CommandException(String.format(MESSAGE_FAILED, i + 1, commandText, e.getMessage()), e);
+            }
+            executed++;
+        }
+
+        // the copy is only put in place once every command has succeeded, which commits them all in one change
+        model.setAddressBook(transaction.getAddressBook());
+        if (model.getFilteredPersonListPredicate() != transaction.getFilteredPersonListPredicate()) {
+            model.updateFilteredPersonList(transaction.getFilteredPersonListPredicate());
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        long commandsPerSecond = executed * 1_000_000_000L / elapsedNanos;
+        logger.info("Executed " + executed + " commands at " + commandsPerSecond + " commands/s");
+        return new CommandResult(String.format(MESSAGE_SUCCESS, executed, elapsedNanos / 1_000_000,
+                commandsPerSecond));
+    }
+
+    /**
+     * Waits for the work that {@code commandResult} left to do in the background, if any,
+     * cancelling it if {@code cancellationToken} is cancelled meanwhile.
+     *
+     * @throws CommandException if the work fails.
+     * @throws CancellationException if the work is cancelled.
+     */
+    private static void awaitBackgroundTask(CommandResult commandResult, CancellationToken cancellationToken)
+            throws CommandException {
+        Optional<BackgroundTask> backgroundTask = commandResult.getBackgroundTask();
+        if (!backgroundTask.isPresent()) {
+            return;
+        }
+        BackgroundTask task = backgroundTask.get();
+        try {
+            while (true) {
+                try {
+                    task.getResult().get(CANCELLATION_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    if (cancellationToken.isCancelled()) {
+                        task.cancel();
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        } catch (InterruptedException e) {
+            task.cancel();
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commandTexts.equals(((BatchCommand) other).commandTexts));
+    }
+}
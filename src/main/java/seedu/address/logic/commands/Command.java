@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import seedu.address.commons.core.CancellationToken;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -17,4 +18,20 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command unless {@code cancellationToken} is cancelled, and returns the result message.
+     * Long-running commands override this to check the token as they go, and leave the model as it was
+     * if they are cancelled.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param cancellationToken The token that tells the command it has been cancelled.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     * @throws java.util.concurrent.CancellationException If the command is cancelled.
+     */
+    public CommandResult execute(Model model, CancellationToken cancellationToken) throws CommandException {
+        cancellationToken.throwIfCancelled();
+        return execute(model);
+    }
+
 }
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Deletes every person in the displayed person list, or every person whose name matches a query,
+ * from the address book in one change.
+ */
+public class DeleteAllCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d persons";
+
+    private final NameContainsKeywordsPredicate query;
+
+    /**
+     * Creates a DeleteAllCommand to delete the persons in the displayed person list.
+     */
+    public DeleteAllCommand() {
+        this(null);
+    }
+
+    /**
+     * Creates a DeleteAllCommand to delete the persons in the address book that {@code query} matches,
+     * or the persons in the displayed person list if {@code query} is null.
+     */
+    public DeleteAllCommand(NameContainsKeywordsPredicate query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return execute(model, CancellationToken.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CancellationToken cancellationToken) {
+        requireNonNull(model);
+
+        List<Person> personsToDelete = getTargets(model, Optional.ofNullable(query), cancellationToken);
+        model.applyDiff(new AddressBookDiff(List.of(), personsToDelete, List.of()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, personsToDelete.size()));
+    }
+
+    /**
+     * Returns the persons in {@code model} that {@code query} matches, or the displayed persons if there is
+     * no query, checking {@code cancellationToken} as the persons are matched.
+     */
+    static List<Person> getTargets(Model model, Optional<NameContainsKeywordsPredicate> query,
+            CancellationToken cancellationToken) {
+        if (query.isEmpty()) {
+            return new ArrayList<>(model.getFilteredPersonList());
+        }
+        List<Person> persons = model.getAddressBook().getPersonList();
+        List<Person> targets = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % CancellationToken.CHUNK_SIZE == 0) {
+                cancellationToken.throwIfCancelled();
+            }
+            Person person = persons.get(i);
+            if (query.get().test(person)) {
+                targets.add(person);
+            }
+        }
+        return targets;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeleteAllCommand // instanceof handles nulls
+                && Optional.ofNullable(query).equals(Optional.ofNullable(((DeleteAllCommand) other).query)));
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Shows how the address book differs from another data file, such as a backup.
+ * The persons in the file are compared one at a time as they are read, so the file is never loaded as a whole.
+ */
+public class DiffCommand extends Command {
+
+    public static final String COMMAND_WORD = "diff";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the persons added, deleted and modified "
+            + "in the address book since it was saved to another data file, such as a backup.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.json";
+
+    public static final String MESSAGE_NO_CHANGES = "No changes since %1$s";
+    public static final String MESSAGE_CHANGES = "Changes since %1$s: %2$d added, %3$d deleted, %4$d modified";
+    public static final String MESSAGE_MORE_CHANGES = "\n... and %1$d more";
+    public static final String MESSAGE_FILE_NOT_FOUND = "%1$s does not exist";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    /** The most changes listed in the result, so that very different files do not flood the display. */
+    static final int MAX_CHANGES_SHOWN = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates a DiffCommand to compare the address book with the data file at {@code filePath}.
+     */
+    public DiffCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Person#isSamePerson(Person) compares names only, so persons are matched by name
+        Map<Name, Person> unmatched = new LinkedHashMap<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            unmatched.put(person.getName(), person);
+        }
+        List<Person> deleted = new ArrayList<>();
+        List<AddressBookDiff.Edit> edits = new ArrayList<>();
+        boolean isFound;
+        try {
+            isFound = JsonAddressBookStorage.readPersons(filePath, savedPerson -> {
+                Person person = unmatched.remove(savedPerson.getName());
+                if (person == null) {
+                    deleted.add(savedPerson);
+                } else if (!person.equals(savedPerson)) {
+                    edits.add(new AddressBookDiff.Edit(savedPerson, person));
+                }
+            });
+        } catch (DataConversionException e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, message), e);
+        }
+        if (!isFound) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        // the persons left unmatched were added since the file was saved
+        AddressBookDiff diff = new AddressBookDiff(new ArrayList<>(unmatched.values()), deleted, edits);
+        return new CommandResult(describe(diff));
+    }
+
+    private String describe(AddressBookDiff diff) {
+        if (diff.isEmpty()) {
+            return String.format(MESSAGE_NO_CHANGES, filePath);
+        }
+
+        List<String> changes = new ArrayList<>();
+        diff.getAdded().forEach(person -> changes.add("+ " + person.getName()));
+        diff.getRemoved().forEach(person -> changes.add("- " + person.getName()));
+        diff.getEdits().forEach(edit -> changes.add("~ " + edit.getAfter().getName() + ": " + describe(edit)));
+
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_CHANGES, filePath,
+                diff.getAdded().size(), diff.getRemoved().size(), diff.getEdits().size()));
+        for (String change : changes.subList(0, Math.min(changes.size(), MAX_CHANGES_SHOWN))) {
+            description.append('\n').append(change);
+        }
+        if (changes.size() > MAX_CHANGES_SHOWN) {
+            description.append(String.format(MESSAGE_MORE_CHANGES, changes.size() - MAX_CHANGES_SHOWN));
+        }
+        return description.toString();
+    }
+
+    /**
+     * Returns the fields that differ in {@code edit}, with their values before and after.
+     */
+    private static String describe(AddressBookDiff.Edit edit) {
+        List<String> fields = new ArrayList<>();
+        describeField(fields, "phone", edit, person -> person.getPhone().value);
+        describeField(fields, "email", edit, person -> person.getEmail().value);
+        describeField(fields, "address", edit, person -> person.getAddress().value);
+        describeField(fields, "tags", edit, person -> sortedTagNames(person.getTags()).toString());
+        return String.join(", ", fields);
+    }
+
+    private static void describeField(List<String> fields, String fieldName, AddressBookDiff.Edit edit,
+            Function<Person, String> field) {
+        String before = field.apply(edit.getBefore());
+        String after = field.apply(edit.getAfter());
+        if (!Objects.equals(before, after)) {
+            fields.add(fieldName + " " + before + " -> " + after);
+        }
+    }
+
+    private static Set<String> sortedTagNames(Set<Tag> tags) {
+        Set<String> tagNames = new TreeSet<>();
+        tags.forEach(tag -> tagNames.add(tag.tagName));
+        return tagNames;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DiffCommand // instanceof handles nulls
+                && filePath.equals(((DiffCommand) other).filePath));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Edits the details of every person in the displayed person list, or of every person whose name matches a query,
+ * in one change. Names cannot be edited this way, as no two persons can have the same name.
+ */
+public class EditAllCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Edited %1$d persons";
+    public static final String MESSAGE_NAME_EDITED = "Names cannot be edited for many persons at once.";
+
+    private final NameContainsKeywordsPredicate query;
+    private final EditPersonDescriptor editPersonDescriptor;
+
+    /**
+     * Creates an EditAllCommand to edit the persons in the displayed person list with {@code editPersonDescriptor}.
+     */
+    public EditAllCommand(EditPersonDescriptor editPersonDescriptor) {
+        this(null, editPersonDescriptor);
+    }
+
+    /**
+     * Creates an EditAllCommand to edit the persons in the address book that {@code query} matches
+     * with {@code editPersonDescriptor}, or the persons in the displayed person list if {@code query} is null.
+     */
+    public EditAllCommand(NameContainsKeywordsPredicate query, EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(editPersonDescriptor);
+        if (editPersonDescriptor.getName().isPresent()) {
+            throw new IllegalArgumentException(MESSAGE_NAME_EDITED);
+        }
+        this.query = query;
+        this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return execute(model, CancellationToken.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CancellationToken cancellationToken) {
+        requireNonNull(model);
+
+        List<AddressBookDiff.Edit> edits = new ArrayList<>();
+        List<Person> personsToEdit = DeleteAllCommand.getTargets(model, Optional.ofNullable(query), cancellationToken);
+        for (int i = 0; i < personsToEdit.size(); i++) {
+            if (i % CancellationToken.CHUNK_SIZE == 0) {
+                cancellationToken.throwIfCancelled();
+            }
+            Person personToEdit = personsToEdit.get(i);
+            Person editedPerson = EditCommand.createEditedPerson(personToEdit, editPersonDescriptor);
+            // persons that are already as edited are left as they are
+            if (!editedPerson.equals(personToEdit)) {
+                edits.add(new AddressBookDiff.Edit(personToEdit, editedPerson));
+            }
+        }
+        model.applyDiff(new AddressBookDiff(List.of(), List.of(), edits));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, edits.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof EditAllCommand)) {
+            return false;
+        }
+
+        EditAllCommand e = (EditAllCommand) other;
+        return Optional.ofNullable(query).equals(Optional.ofNullable(e.query))
+                && editPersonDescriptor.equals(e.editPersonDescriptor);
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonExportFormat;
+
+/**
+ * Exports the persons in the displayed person list to a CSV, JSON or vCard file.
+ * The persons are exported as they were displayed when the command was executed, even if they change meanwhile.
+ * Large exports go on in the background, reporting their progress, so other commands can be executed meanwhile.
+ * A cancelled export leaves the file as it was.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the persons in the displayed person list "
+            + "to a CSV (.csv), JSON (.json) or vCard (.vcf) file, replacing the file if it exists.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_STARTED = "Exporting %1$d persons to %2$s in the background";
+    public static final String MESSAGE_PROGRESS = "Exporting to %1$s: %2$d of %3$d persons (%4$d%%)";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+
+    /** The least number of persons that are exported in the background. */
+    public static final int DEFAULT_BACKGROUND_THRESHOLD = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /** Runs background exports one at a time, in the order they were started. */
+    private static final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path filePath;
+    private final PersonExportFormat format;
+    private final int backgroundThreshold;
+
+    /**
+     * Creates an ExportCommand to export the displayed persons to the file at {@code filePath},
+     * in the format named by its extension.
+     */
+    public ExportCommand(Path filePath) {
+        this(filePath, DEFAULT_BACKGROUND_THRESHOLD);
+    }
+
+    /**
+     * Creates an ExportCommand that exports in the background when there are at least
+     * {@code backgroundThreshold} persons to export.
+     */
+    ExportCommand(Path filePath, int backgroundThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.format = PersonExportFormat.of(filePath).orElseThrow(() ->
+                new IllegalArgumentException("Persons cannot be exported to " + filePath));
+        this.backgroundThreshold = backgroundThreshold;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, CancellationToken.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CancellationToken cancellationToken) throws CommandException {
+        requireNonNull(model);
+
+        // persons are immutable, so a copy of the list is a consistent snapshot of them
+        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+        if (persons.size() < backgroundThreshold) {
+            return new CommandResult(export(persons, progress -> {}, cancellationToken));
+        }
+
+        logger.info("Exporting " + persons.size() + " persons to " + filePath + " in the background");
+        BackgroundTask task = BackgroundTask.start(backgroundTask -> export(persons, backgroundTask::reportProgress,
+                backgroundTask.getCancellationToken()), backgroundExecutor);
+        return new CommandResult(String.format(MESSAGE_STARTED, persons.size(), filePath), task);
+    }
+
+    /**
+     * Writes {@code persons} to the file, giving {@code progressListener} a message each time
+     * another percent of them is written, and returns the feedback to the user.
+     * The file is left as it was if {@code cancellationToken} is cancelled meanwhile.
+     */
+    private String export(List<Person> persons, Consumer<String> progressListener,
+            CancellationToken cancellationToken) throws CommandException {
+        try {
+            format.write(withProgress(persons, progressListener, cancellationToken), filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to export to " + filePath + ": " + ioe);
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+        return String.format(MESSAGE_SUCCESS, persons.size(), filePath);
+    }
+
+    private Iterable<Person> withProgress(List<Person> persons, Consumer<String> progressListener,
+            CancellationToken cancellationToken) {
+        int total = persons.size();
+        return () -> new Iterator<>() {
+            private int written;
+            private int percentReported;
+
+            @Override
+            public boolean hasNext() {
+                return written < total;
+            }
+
+            @Override
+            public Person next() {
+                // thrown out of the writing of the file, whose partly written temporary file is then deleted
+                if (written % CancellationToken.CHUNK_SIZE == 0) {
+                    cancellationToken.throwIfCancelled();
+                }
+                Person person = persons.get(written++);
+                int percent = (int) ((long) written * 100 / total);
+                if (percent > percentReported) {
+                    percentReported = percent;
+                    progressListener.accept(String.format(MESSAGE_PROGRESS, filePath, written, total, percent));
+                }
+                return person;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)
+                && backgroundThreshold == ((ExportCommand) other).backgroundThreshold);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.core.CancellationToken;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -27,8 +28,13 @@ public class FindCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) {
+        return execute(model, CancellationToken.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CancellationToken cancellationToken) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate, cancellationToken);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
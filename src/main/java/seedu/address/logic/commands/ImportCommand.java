@@ -0,0 +1,127 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonReader;
+import seedu.address.storage.PersonImportResult;
+import seedu.address.storage.PersonImportResult.Row;
+import seedu.address.storage.PersonImportResult.RowError;
+import seedu.address.storage.VCardPersonReader;
+
+/**
+ * Imports the persons in a CSV or vCard file into the address book, all at once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports the persons in a CSV or vCard (.vcf) file. "
+            + "The first line of a CSV file names its columns: name, phone, email, address and optionally tags, "
+            + "separated by spaces.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_ROW_ERRORS = "\n%1$d rows could not be imported:";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "\n... and %1$d more";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book";
+    public static final String MESSAGE_DUPLICATE_ROW = "This person is the same as the person in line %1$d";
+
+    /** The most row errors listed in the result, so that a badly mismatched file does not flood the display. */
+    static final int MAX_ROW_ERRORS_SHOWN = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the persons in the file at {@code filePath},
+     * which is read as a vCard file if it is named like one, or as a CSV file otherwise.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        PersonImportResult result;
+        try {
+            result = VCardPersonReader.isVCardFile(filePath)
+                    ? VCardPersonReader.read(filePath)
+                    : CsvPersonReader.read(filePath);
+        } catch (IOException | DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, getMessage(e)), e);
+        }
+        return importPersons(model, result, filePath);
+    }
+
+    /**
+     * Adds the persons in {@code result} to {@code model} in one change, leaving out the persons that already exist
+     * or that are the same as an earlier person in the file, and reports the rows that could not be imported.
+     */
+    static CommandResult importPersons(Model model, PersonImportResult result, Path filePath) {
+        List<RowError> errors = new ArrayList<>(result.getErrors());
+
+        // Person#isSamePerson(Person) compares names only, so persons are matched by name
+        Map<Name, Integer> existingNames = new HashMap<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            existingNames.put(person.getName(), 0);
+        }
+        List<Person> toAdd = new ArrayList<>();
+        for (Row row : result.getRows()) {
+            // existing persons are recorded as being in line 0, which no row is in
+            Integer duplicateLine = existingNames.putIfAbsent(row.getPerson().getName(), row.getLine());
+            if (duplicateLine == null) {
+                toAdd.add(row.getPerson());
+            } else if (duplicateLine == 0) {
+                errors.add(new RowError(row.getLine(), MESSAGE_DUPLICATE_PERSON));
+            } else {
+                errors.add(new RowError(row.getLine(), String.format(MESSAGE_DUPLICATE_ROW, duplicateLine)));
+            }
+        }
+
+        model.addPersons(toAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath) + describe(errors));
+    }
+
+    private static String describe(List<RowError> errors) {
+        if (errors.isEmpty()) {
+            return "";
+        }
+        errors.sort((first, second) -> Integer.compare(first.getLine(), second.getLine()));
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_ROW_ERRORS, errors.size()));
+        for (RowError error : errors.subList(0, Math.min(errors.size(), MAX_ROW_ERRORS_SHOWN))) {
+            description.append('\n').append(error);
+        }
+        if (errors.size() > MAX_ROW_ERRORS_SHOWN) {
+            description.append(String.format(MESSAGE_MORE_ROW_ERRORS, errors.size() - MAX_ROW_ERRORS_SHOWN));
+        }
+        return description.toString();
+    }
+
+    private static String getMessage(Exception e) {
+        return e.getCause() != null && e instanceof DataConversionException ? e.getCause().getMessage()
+                : e.getMessage();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONFLICT_POLICY;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.ConflictPolicy;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Merges the persons in another address book data file into the address book, all at once.
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Merges the persons in another address book "
+            + "data file into this one. Persons in both are kept as in this address book (ours), replaced by "
+            + "those in the file (theirs), or kept with the tags of both (union).\n"
+            + "Parameters: FILE_PATH [" + PREFIX_CONFLICT_POLICY + "ours|theirs|union]\n"
+            + "Example: " + COMMAND_WORD + " data/team.json " + PREFIX_CONFLICT_POLICY + "union";
+
+    public static final String MESSAGE_SUCCESS = "Merged %1$s: %2$d persons added, %3$d persons updated";
+    public static final String MESSAGE_FILE_NOT_FOUND = "%1$s does not exist";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    private final Path filePath;
+    private final ConflictPolicy conflictPolicy;
+
+    /**
+     * Creates a MergeCommand to merge the persons in the data file at {@code filePath},
+     * resolving conflicts with {@code conflictPolicy}.
+     */
+    public MergeCommand(Path filePath, ConflictPolicy conflictPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(conflictPolicy);
+        this.filePath = filePath;
+        this.conflictPolicy = conflictPolicy;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<ReadOnlyAddressBook> theirs;
+        try {
+            theirs = new JsonAddressBookStorage(filePath).readAddressBook();
+        } catch (DataConversionException e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, message), e);
+        }
+        if (!theirs.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        AddressBookDiff diff = conflictPolicy.merge(model.getAddressBook().getPersonList(),
+                theirs.get().getPersonList());
+        model.applyDiff(diff);
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath, diff.getAdded().size(),
+                diff.getEdits().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MergeCommand // instanceof handles nulls
+                && filePath.equals(((MergeCommand) other).filePath)
+                && conflictPolicy == ((MergeCommand) other).conflictPolicy);
+    }
+}
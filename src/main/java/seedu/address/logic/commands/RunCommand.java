@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as one command: if any of them fails, none of them take effect.
+ *
+ * @see BatchCommand
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "If any of them fails, the address book is left as it was. "
+            + "Blank lines and lines starting with " + BatchCommand.COMMENT_START + " are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/script.txt";
+
+    public static final String MESSAGE_FILE_NOT_FOUND = "%1$s does not exist";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    private final Path filePath;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code filePath}, parsed with
+     * {@code addressBookParser}.
+     */
+    public RunCommand(Path filePath, AddressBookParser addressBookParser) {
+        requireNonNull(filePath);
+        requireNonNull(addressBookParser);
+        this.filePath = filePath;
+        this.addressBookParser = addressBookParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, CancellationToken.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CancellationToken cancellationToken) throws CommandException {
+        requireNonNull(model);
+
+        List<String> commandTexts;
+        try {
+            commandTexts = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+        return new BatchCommand(addressBookParser, commandTexts).execute(model, cancellationToken);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && filePath.equals(((RunCommand) other).filePath));
+    }
+}
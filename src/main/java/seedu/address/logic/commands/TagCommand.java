@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Renames a tag, or merges several tags into one, on every person tagged with them, in one change.
+ * The tagged persons are looked up in the index of the persons, so persons without the tags are never visited.
+ */
+public class TagCommand extends Command {
+
+    public static final String COMMAND_WORD = "tag";
+    public static final String RENAME_WORD = "rename";
+    public static final String MERGE_WORD = "merge";
+    public static final String INTO_WORD = "INTO";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Renames a tag, or merges tags into one tag, "
+            + "on every person with the tags.\n"
+            + "Parameters: " + RENAME_WORD + " OLD_TAG NEW_TAG\n"
+            + "or: " + MERGE_WORD + " TAG [MORE_TAGS]... " + INTO_WORD + " NEW_TAG\n"
+            + "Example: " + COMMAND_WORD + " " + RENAME_WORD + " friends friend\n"
+            + "Example: " + COMMAND_WORD + " " + MERGE_WORD + " colleagues coworkers " + INTO_WORD + " work";
+
+    public static final String MESSAGE_RENAMED = "Renamed tag %1$s to %2$s on %3$d persons";
+    public static final String MESSAGE_MERGED = "Merged tags %1$s into %2$s on %3$d persons";
+    public static final String MESSAGE_TAG_NOT_FOUND = "No person is tagged %1$s";
+
+    private final Set<Tag> oldTags;
+    private final Tag newTag;
+
+    /**
+     * Creates a TagCommand to replace each of {@code oldTags} with {@code newTag}.
+     */
+    public TagCommand(Set<Tag> oldTags, Tag newTag) {
+        requireNonNull(oldTags);
+        requireNonNull(newTag);
+        if (oldTags.isEmpty()) {
+            throw new IllegalArgumentException("There must be a tag to replace");
+        }
+        this.oldTags = new LinkedHashSet<>(oldTags);
+        this.newTag = newTag;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Set<Person> taggedPersons = new LinkedHashSet<>();
+        for (Tag oldTag : oldTags) {
+            taggedPersons.addAll(model.getPersonsWithTag(oldTag));
+        }
+        if (taggedPersons.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_TAG_NOT_FOUND, describe(oldTags)));
+        }
+
+        List<AddressBookDiff.Edit> edits = new ArrayList<>();
+        for (Person person : taggedPersons) {
+            Set<Tag> tags = new HashSet<>(person.getTags());
+            tags.removeAll(oldTags);
+            tags.add(newTag);
+            // persons that are already as retagged, such as when a tag is renamed to itself, are left as they are
+            if (!tags.equals(person.getTags())) {
+                edits.add(new AddressBookDiff.Edit(person, new Person(person.getName(), person.getPhone(),
+                        person.getEmail(), person.getAddress(), tags)));
+            }
+        }
+        model.applyDiff(new AddressBookDiff(List.of(), List.of(), edits));
+
+        String message = oldTags.size() == 1 ? MESSAGE_RENAMED : MESSAGE_MERGED;
+        return new CommandResult(String.format(message, describe(oldTags), newTag, edits.size()));
+    }
+
+    private static String describe(Set<Tag> tags) {
+        List<String> tagNames = new ArrayList<>();
+        tags.forEach(tag -> tagNames.add(tag.toString()));
+        return String.join(", ", tagNames);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagCommand // instanceof handles nulls
+                && oldTags.equals(((TagCommand) other).oldTags)
+                && newTag.equals(((TagCommand) other).newTag));
+    }
+}
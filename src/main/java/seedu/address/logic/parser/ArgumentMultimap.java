@@ -1,9 +1,8 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,31 +11,62 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * <p>
+ * The values are stored as index ranges into the arguments string they were tokenized from,
+ * and only taken out of it when they are asked for.
  */
 public class ArgumentMultimap {
 
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    /** The prefix index of the preamble, which has no prefix. */
+    static final int PREAMBLE = -1;
+
+    private static final int FIELDS_PER_ARGUMENT = 3;
+
+    private final String argsString;
+    private final Prefix[] prefixes;
+
+    /** The prefix index, start and end of each argument in {@code argsString}, in order. */
+    private int[] arguments = new int[FIELDS_PER_ARGUMENT * 4];
+    private int argumentCount;
+
+    /**
+     * Creates an empty {@code ArgumentMultimap} for the arguments of {@code prefixes} in {@code argsString}.
+     */
+    ArgumentMultimap(String argsString, Prefix... prefixes) {
+        this.argsString = argsString;
+        this.prefixes = prefixes;
+    }
 
     /**
-     * Associates the specified argument value with {@code prefix} key in this map.
+     * Associates the value between {@code start} and {@code end} in the arguments string with the prefix
+     * at {@code prefixIndex}, or with the preamble if it is {@link #PREAMBLE}.
      * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
-     *
-     * @param prefix   Prefix key with which the specified argument value is to be associated
-     * @param argValue Argument value to be associated with the specified prefix key
      */
-    public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+    void add(int prefixIndex, int start, int end) {
+        int offset = argumentCount * FIELDS_PER_ARGUMENT;
+        if (offset == arguments.length) {
+            arguments = Arrays.copyOf(arguments, arguments.length * 2);
+        }
+        arguments[offset] = prefixIndex;
+        arguments[offset + 1] = start;
+        arguments[offset + 2] = end;
+        argumentCount++;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        int prefixIndex = indexOf(prefix);
+        if (prefixIndex == PREAMBLE) {
+            return Optional.empty();
+        }
+        for (int i = argumentCount - 1; i >= 0; i--) {
+            if (arguments[i * FIELDS_PER_ARGUMENT] == prefixIndex) {
+                return Optional.of(valueAt(i));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -45,16 +75,45 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        int prefixIndex = indexOf(prefix);
+        if (prefixIndex == PREAMBLE) {
+            return values;
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        for (int i = 0; i < argumentCount; i++) {
+            if (arguments[i * FIELDS_PER_ARGUMENT] == prefixIndex) {
+                values.add(valueAt(i));
+            }
+        }
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        for (int i = 0; i < argumentCount; i++) {
+            if (arguments[i * FIELDS_PER_ARGUMENT] == PREAMBLE) {
+                return valueAt(i);
+            }
+        }
+        return "";
+    }
+
+    private String valueAt(int argument) {
+        int offset = argument * FIELDS_PER_ARGUMENT;
+        return argsString.substring(arguments[offset + 1], arguments[offset + 2]);
+    }
+
+    /**
+     * Returns the index of {@code prefix} among the prefixes tokenized for, or {@link #PREAMBLE} if it is not one.
+     */
+    private int indexOf(Prefix prefix) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (prefixes[i].equals(prefix)) {
+                return i;
+            }
+        }
+        return PREAMBLE;
     }
 }
@@ -0,0 +1,15 @@
+package seedu.address.logic.parser;
+
+/**
+ * Provides commands beyond the built-in ones, by registering the parsers of their command words.
+ * Providers are found with {@link java.util.ServiceLoader}, so a provider is added by listing its class in
+ * {@code META-INF/services/seedu.address.logic.parser.CommandProvider} on the class path.
+ */
+public interface CommandProvider {
+
+    /**
+     * Registers the command words of the commands provided, and their aliases if any, in {@code registry}.
+     * Parsers should be registered with factories, so that they are only created when their commands are used.
+     */
+    void registerCommands(CommandRegistry registry);
+}
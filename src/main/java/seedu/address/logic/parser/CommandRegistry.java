@@ -0,0 +1,163 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DiffCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.TagCommand;
+
+/**
+ * Maps command words, and their aliases, to the parsers of their commands.
+ * Parsers are stateless, so each is created once, when its command is first used, and shared from then on.
+ * <p>
+ * If unique prefixes are allowed, a command word can also be abbreviated to any prefix of it that no other
+ * command word or alias starts with, e.g. {@code li} for {@code list}.
+ * <p>
+ * Commands are registered before the registry is used; looking up parsers is thread-safe.
+ */
+public class CommandRegistry {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRegistry.class);
+
+    private final Map<String, Registration> commandWords = new HashMap<>();
+    private final Map<String, Registration> uniquePrefixes = new HashMap<>();
+    private boolean areUniquePrefixesAllowed;
+
+    /**
+     * Returns a registry of the built-in commands and the commands of the {@link CommandProvider}s
+     * on the class path.
+     */
+    public static CommandRegistry createDefault() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.registerBuiltInCommands();
+        for (CommandProvider provider : ServiceLoader.load(CommandProvider.class)) {
+            logger.info("Registering commands from " + provider.getClass().getName());
+            provider.registerCommands(registry);
+        }
+        return registry;
+    }
+
+    private void registerBuiltInCommands() {
+        register(AddCommand.COMMAND_WORD, AddCommandParser::new);
+        register(EditCommand.COMMAND_WORD, EditCommandParser::new);
+        register(DeleteCommand.COMMAND_WORD, DeleteCommandParser::new);
+        register(ClearCommand.COMMAND_WORD, () -> arguments -> new ClearCommand());
+        register(FindCommand.COMMAND_WORD, FindCommandParser::new);
+        register(ImportCommand.COMMAND_WORD, ImportCommandParser::new);
+        register(ExportCommand.COMMAND_WORD, ExportCommandParser::new);
+        register(DiffCommand.COMMAND_WORD, DiffCommandParser::new);
+        register(MergeCommand.COMMAND_WORD, MergeCommandParser::new);
+        // scripts are parsed with the commands of this registry, including those registered later
+        register(RunCommand.COMMAND_WORD, () -> new RunCommandParser(new AddressBookParser(this)));
+        register(TagCommand.COMMAND_WORD, TagCommandParser::new);
+        register(ListCommand.COMMAND_WORD, () -> arguments -> new ListCommand());
+        register(ExitCommand.COMMAND_WORD, () -> arguments -> new ExitCommand());
+        register(HelpCommand.COMMAND_WORD, () -> arguments -> new HelpCommand());
+    }
+
+    /**
+     * Registers {@code commandWord} and its {@code aliases} for the commands parsed by the parser that
+     * {@code parserFactory} creates, replacing any command already registered for them.
+     */
+    public void register(String commandWord, Supplier<? extends Parser<? extends Command>> parserFactory,
+            String... aliases) {
+        requireNonNull(commandWord);
+        requireNonNull(parserFactory);
+        Registration registration = new Registration(commandWord, parserFactory);
+        commandWords.put(commandWord, registration);
+        for (String alias : aliases) {
+            commandWords.put(alias, registration);
+        }
+        updateUniquePrefixes();
+    }
+
+    /**
+     * Sets whether command words and aliases can be abbreviated to prefixes that only they start with.
+     */
+    public void setUniquePrefixesAllowed(boolean areUniquePrefixesAllowed) {
+        this.areUniquePrefixesAllowed = areUniquePrefixesAllowed;
+    }
+
+    /**
+     * Returns the parser of the command with {@code commandWord} as its command word or alias, or as a unique
+     * prefix of them if those are allowed, or an empty {@code Optional} if there is no such command.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        Registration registration = commandWords.get(commandWord);
+        if (registration == null && areUniquePrefixesAllowed) {
+            registration = uniquePrefixes.get(commandWord);
+        }
+        return registration == null ? Optional.empty() : Optional.of(registration.getParser());
+    }
+
+    /**
+     * Maps each proper prefix of the registered command words and aliases to the command registered for them,
+     * leaving out the prefixes shared by different commands. This is redone on each registration, so that a
+     * lookup is a single hash lookup.
+     */
+    private void updateUniquePrefixes() {
+        uniquePrefixes.clear();
+        Set<String> ambiguousPrefixes = new HashSet<>();
+        commandWords.forEach((word, registration) -> {
+            for (int length = 1; length < word.length(); length++) {
+                String prefix = word.substring(0, length);
+                Registration existing = uniquePrefixes.putIfAbsent(prefix, registration);
+                if (existing != null && existing != registration) {
+                    ambiguousPrefixes.add(prefix);
+                }
+            }
+        });
+        uniquePrefixes.keySet().removeAll(ambiguousPrefixes);
+    }
+
+    /**
+     * A registered command, whose parser is created when it is first asked for.
+     */
+    private static class Registration {
+        private final String commandWord;
+        private final Supplier<? extends Parser<? extends Command>> parserFactory;
+        private volatile Parser<? extends Command> parser;
+
+        Registration(String commandWord, Supplier<? extends Parser<? extends Command>> parserFactory) {
+            this.commandWord = commandWord;
+            this.parserFactory = parserFactory;
+        }
+
+        Parser<? extends Command> getParser() {
+            Parser<? extends Command> result = parser;
+            if (result == null) {
+                synchronized (this) {
+                    result = parser;
+                    if (result == null) {
+                        logger.fine("Creating the parser of " + commandWord);
+                        result = parserFactory.get();
+                        parser = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
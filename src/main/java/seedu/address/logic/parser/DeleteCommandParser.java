@@ -2,21 +2,35 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
+import java.util.Optional;
+
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteAllCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new DeleteCommand object
+ * Parses input arguments and creates a new DeleteCommand or DeleteAllCommand object
  */
-public class DeleteCommandParser implements Parser<DeleteCommand> {
+public class DeleteCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
-     * and returns a DeleteCommand object for execution.
+     * and returns a DeleteCommand object for execution, or a DeleteAllCommand object if the arguments
+     * start with {@link ParserUtil#ALL_KEYWORD}.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public DeleteCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
+        Optional<List<String>> allKeywords = ParserUtil.parseAllKeywords(args);
+        if (allKeywords.isPresent()) {
+            return allKeywords.get().isEmpty()
+                    ? new DeleteAllCommand()
+                    : new DeleteAllCommand(new NameContainsKeywordsPredicate(allKeywords.get()));
+        }
+
         try {
             Index index = ParserUtil.parseIndex(args);
             return new DeleteCommand(index);
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.DiffCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DiffCommand object
+ */
+public class DiffCommandParser implements Parser<DiffCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DiffCommand
+     * and returns a DiffCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DiffCommand parse(String args) throws ParseException {
+        try {
+            return new DiffCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DiffCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
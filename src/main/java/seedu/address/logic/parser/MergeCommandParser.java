@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONFLICT_POLICY;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ConflictPolicy;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CONFLICT_POLICY);
+
+        Path filePath;
+        try {
+            filePath = ParserUtil.parseFilePath(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE), pe);
+        }
+
+        Optional<String> policyName = argMultimap.getValue(PREFIX_CONFLICT_POLICY);
+        ConflictPolicy conflictPolicy = ConflictPolicy.OURS;
+        if (policyName.isPresent()) {
+            conflictPolicy = ConflictPolicy.of(policyName.get())
+                    .orElseThrow(() -> new ParseException(ConflictPolicy.MESSAGE_CONSTRAINTS));
+        }
+        return new MergeCommand(filePath, conflictPolicy);
+    }
+
+}
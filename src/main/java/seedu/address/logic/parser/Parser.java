@@ -5,6 +5,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Represents a Parser that is able to parse user input into a {@code Command} of type {@code T}.
+ * A parser is shared by every input of its command, so it should not keep any state between calls.
  */
 public interface Parser<T extends Command> {
 
@@ -2,8 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -21,6 +27,10 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is missing or not a valid path.";
+
+    /** The word that makes a command act on every displayed person, or on every person matching a query. */
+    public static final String ALL_KEYWORD = "all";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -121,4 +131,44 @@ public class ParserUtil {
         }
         return tagSet;
     }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH, ipe);
+        }
+    }
+
+    /**
+     * Parses {@code args} of the form {@code all [KEYWORD]...} into the keywords that follow {@link #ALL_KEYWORD},
+     * which are empty if there are none. Leading and trailing whitespaces will be trimmed.
+     * Returns an empty {@code Optional} if {@code args} does not start with {@link #ALL_KEYWORD}.
+     */
+    public static Optional<List<String>> parseAllKeywords(String args) {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.startsWith(ALL_KEYWORD)) {
+            return Optional.empty();
+        }
+        String keywords = trimmedArgs.substring(ALL_KEYWORD.length());
+        if (keywords.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        if (!Character.isWhitespace(keywords.charAt(0))) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.asList(keywords.trim().split("\\s+")));
+    }
 }
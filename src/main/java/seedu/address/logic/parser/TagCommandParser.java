@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new TagCommand object
+ */
+public class TagCommandParser implements Parser<TagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TagCommand
+     * and returns a TagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TagCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        List<String> words = trimmedArgs.isEmpty() ? List.of() : Arrays.asList(trimmedArgs.split("\\s+"));
+        int wordCount = words.size();
+
+        if (wordCount == 3 && words.get(0).equals(TagCommand.RENAME_WORD)) {
+            return new TagCommand(Set.of(ParserUtil.parseTag(words.get(1))), ParserUtil.parseTag(words.get(2)));
+        }
+        // the last INTO is the separator, so that a tag may itself be named INTO
+        if (wordCount >= 4 && words.get(0).equals(TagCommand.MERGE_WORD)
+                && words.get(wordCount - 2).equalsIgnoreCase(TagCommand.INTO_WORD)) {
+            Set<Tag> oldTags = new LinkedHashSet<>();
+            for (String oldTagName : words.subList(1, wordCount - 2)) {
+                oldTags.add(ParserUtil.parseTag(oldTagName));
+            }
+            return new TagCommand(oldTags, ParserUtil.parseTag(words.get(wordCount - 1)));
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -2,10 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListListener;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +18,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    /** The index of {@code persons}, or null if it has not been needed since the persons were last replaced. */
+    private PersonIndex personIndex;
+
+    /** Incremented on every change to {@code persons}. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -45,6 +53,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personIndex = null;
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, without checking them for duplicates.
+     * Only for persons known to be unique, such as those read back unchanged from data saved by this app.
+     */
+    public void setTrustedPersons(List<Person> persons) {
+        this.persons.setTrustedPersons(persons);
+        personIndex = null;
+        version++;
     }
 
     /**
@@ -53,6 +73,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // the persons of another address book are already known to be unique
+            setTrustedPersons(newData.getPersonList());
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -72,6 +97,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        if (personIndex != null) {
+            personIndex.add(p);
+        }
+        version++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book at once.
+     * None of the persons may already exist in the address book, or be the same as another of them.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        if (personIndex != null) {
+            toAdd.forEach(personIndex::add);
+        }
+        version++;
     }
 
     /**
@@ -83,6 +124,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (personIndex != null) {
+            personIndex.remove(target);
+            personIndex.add(editedPerson);
+        }
+        version++;
     }
 
     /**
@@ -91,19 +137,105 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        if (personIndex != null) {
+            personIndex.remove(key);
+        }
+        version++;
+    }
+
+    /**
+     * Applies {@code diff} to this address book: removes its removed persons, replaces its edited persons
+     * in place and adds its added persons, all in one change.
+     * The removed and edited persons must exist in the address book, and the added persons must not.
+     */
+    public void applyDiff(AddressBookDiff diff) {
+        requireNonNull(diff);
+        Map<Person, Person> replacements = new HashMap<>(diff.getEdits().size() * 2);
+        for (AddressBookDiff.Edit edit : diff.getEdits()) {
+            replacements.put(edit.getBefore(), edit.getAfter());
+        }
+        persons.applyAll(diff.getRemoved(), replacements, diff.getAdded());
+
+        if (personIndex != null) {
+            diff.getRemoved().forEach(personIndex::remove);
+            for (AddressBookDiff.Edit edit : diff.getEdits()) {
+                personIndex.remove(edit.getBefore());
+                personIndex.add(edit.getAfter());
+            }
+            diff.getAdded().forEach(personIndex::add);
+        }
+        version++;
+    }
+
+    //// index operations
+
+    /**
+     * Returns the index of the persons in this address book, building it first if needed.
+     * The index is kept up to date with any later changes to this address book.
+     */
+    public PersonIndex getPersonIndex() {
+        if (personIndex == null) {
+            personIndex = PersonIndex.of(persons.asUnmodifiableList());
+        }
+        return personIndex;
+    }
+
+    /**
+     * Returns true if the index of the persons has been built or set.
+     */
+    public boolean hasPersonIndex() {
+        return personIndex != null;
+    }
+
+    /**
+     * Returns a number that changes whenever the persons in this address book change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Uses {@code personIndex} as the index of the persons, if the persons have not changed since {@code version}.
+     * {@code personIndex} must be the index of the persons as they were at {@code version}.
+     *
+     * @return true if {@code personIndex} is used.
+     */
+    public boolean setPersonIndex(PersonIndex personIndex, long version) {
+        requireNonNull(personIndex);
+        if (version != this.version) {
+            return false;
+        }
+        this.personIndex = personIndex;
+        return true;
+    }
+
+    //// listener operations
+
+    /**
+     * Adds a listener that is told of each change to the persons in this address book.
+     */
+    public void addPersonListListener(PersonListListener listener) {
+        persons.addListener(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addPersonListListener(PersonListListener)}.
+     */
+    public void removePersonListListener(PersonListListener listener) {
+        persons.removeListener(listener);
     }
 
     //// util methods
 
     @Override
     public String toString() {
-        return persons.asUnmodifiableObservableList().size() + " persons";
+        return persons.asUnmodifiableList().size() + " persons";
         // TODO: refine later
     }
 
     @Override
-    public ObservableList<Person> getPersonList() {
-        return persons.asUnmodifiableObservableList();
+    public List<Person> getPersonList() {
+        return persons.asUnmodifiableList();
     }
 
     @Override
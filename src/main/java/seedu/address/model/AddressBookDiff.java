@@ -0,0 +1,151 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * The differences between two lists of persons, matched by person identity:
+ * the persons only in the updated list, those only in the original list,
+ * and those in both whose other fields differ.
+ *
+ * @see Person#isSamePerson(Person)
+ */
+public class AddressBookDiff {
+
+    private final List<Person> added;
+    private final List<Person> removed;
+    private final List<Edit> edits;
+
+    /**
+     * Creates a diff from its parts.
+     */
+    public AddressBookDiff(List<Person> added, List<Person> removed, List<Edit> edits) {
+        requireNonNull(added);
+        requireNonNull(removed);
+        requireNonNull(edits);
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.edits = Collections.unmodifiableList(edits);
+    }
+
+    /**
+     * Returns the differences that change {@code original} into {@code updated}, in the time taken to
+     * look at each person once. Neither list may contain two persons with the same identity.
+     */
+    public static AddressBookDiff of(List<Person> original, List<Person> updated) {
+        requireNonNull(original);
+        requireNonNull(updated);
+
+        // Person#isSamePerson(Person) compares names only, so persons are matched by name
+        Map<Name, Person> originalByName = new HashMap<>(original.size() * 2);
+        for (Person person : original) {
+            originalByName.put(person.getName(), person);
+        }
+
+        List<Person> added = new ArrayList<>();
+        List<Edit> edits = new ArrayList<>();
+        for (Person person : updated) {
+            Person originalPerson = originalByName.remove(person.getName());
+            if (originalPerson == null) {
+                added.add(person);
+            } else if (!originalPerson.equals(person)) {
+                edits.add(new Edit(originalPerson, person));
+            }
+        }
+
+        // the persons left unmatched are removed, and are listed in their original order
+        List<Person> removed = new ArrayList<>(originalByName.size());
+        for (Person person : original) {
+            if (originalByName.containsKey(person.getName())) {
+                removed.add(person);
+            }
+        }
+        return new AddressBookDiff(added, removed, edits);
+    }
+
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    public List<Edit> getEdits() {
+        return edits;
+    }
+
+    /**
+     * Returns true if there are no differences.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && edits.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookDiff // instanceof handles nulls
+                && added.equals(((AddressBookDiff) other).added)
+                && removed.equals(((AddressBookDiff) other).removed)
+                && edits.equals(((AddressBookDiff) other).edits));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(added, removed, edits);
+    }
+
+    @Override
+    public String toString() {
+        return added.size() + " added, " + removed.size() + " removed, " + edits.size() + " edited";
+    }
+
+    /**
+     * A person whose fields other than its identity differ between the two lists.
+     */
+    public static class Edit {
+        private final Person before;
+        private final Person after;
+
+        /**
+         * Creates an edit of {@code before} into {@code after}, which must be the same person.
+         */
+        public Edit(Person before, Person after) {
+            requireNonNull(before);
+            requireNonNull(after);
+            this.before = before;
+            this.after = after;
+        }
+
+        public Person getBefore() {
+            return before;
+        }
+
+        public Person getAfter() {
+            return after;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Edit // instanceof handles nulls
+                    && before.equals(((Edit) other).before)
+                    && after.equals(((Edit) other).after));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Decides which details to keep when a person in another address book being merged into ours
+ * is the same person as one of ours, but with different details.
+ */
+public enum ConflictPolicy {
+    /** Keeps our details. */
+    OURS {
+        @Override
+        public Person resolve(Person ours, Person theirs) {
+            return ours;
+        }
+    },
+    /** Takes their details. */
+    THEIRS {
+        @Override
+        public Person resolve(Person ours, Person theirs) {
+            return theirs;
+        }
+    },
+    /** Keeps our details, with the tags of both. */
+    UNION {
+        @Override
+        public Person resolve(Person ours, Person theirs) {
+            if (ours.getTags().containsAll(theirs.getTags())) {
+                return ours;
+            }
+            Set<Tag> tags = new HashSet<>(ours.getTags());
+            tags.addAll(theirs.getTags());
+            return new Person(ours.getName(), ours.getPhone(), ours.getEmail(), ours.getAddress(), tags);
+        }
+    };
+
+    public static final String MESSAGE_CONSTRAINTS = "The conflict policy should be ours, theirs or union";
+
+    /**
+     * Returns the person to keep in place of {@code ours}, given {@code theirs}, which is the same person.
+     */
+    public abstract Person resolve(Person ours, Person theirs);
+
+    /**
+     * Returns the policy named {@code name}, ignoring case.
+     */
+    public static Optional<ConflictPolicy> of(String name) {
+        requireNonNull(name);
+        for (ConflictPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(name.trim())) {
+                return Optional.of(policy);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the differences that merge {@code theirs} into {@code ours}: their persons that are not ours
+     * are added, and our persons that are also theirs are changed as this policy decides.
+     * None of our persons are removed. The persons are matched by identity by hashing ours and then
+     * looking up each of theirs, so each person is looked at once.
+     */
+    public AddressBookDiff merge(List<Person> ours, List<Person> theirs) {
+        requireNonNull(ours);
+        requireNonNull(theirs);
+
+        // Person#isSamePerson(Person) compares names only, so persons are matched by name
+        Map<Name, Person> oursByName = new HashMap<>(ours.size() * 2);
+        for (Person person : ours) {
+            oursByName.put(person.getName(), person);
+        }
+
+        List<Person> added = new ArrayList<>();
+        List<AddressBookDiff.Edit> edits = new ArrayList<>();
+        for (Person person : theirs) {
+            Person ourPerson = oursByName.get(person.getName());
+            if (ourPerson == null) {
+                added.add(person);
+                continue;
+            }
+            Person resolved = resolve(ourPerson, person);
+            if (!resolved.equals(ourPerson)) {
+                edits.add(new AddressBookDiff.Edit(ourPerson, resolved));
+            }
+        }
+        return new AddressBookDiff(added, new ArrayList<>(), edits);
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
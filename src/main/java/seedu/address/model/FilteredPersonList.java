@@ -0,0 +1,230 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.PersonListListener;
+
+/**
+ * An unmodifiable view of the persons in a source list that match a predicate, in the order of the source list.
+ * It must be added as a listener of the source list, and keeps up with each change to it by filtering only the
+ * persons that the change adds, telling its own listeners of the change as it appears in the view.
+ */
+class FilteredPersonList extends AbstractList<Person> implements PersonListListener {
+
+    /**
+     * The most ranges in a change to the source list that are filtered one at a time. A change of more ranges,
+     * such as removing persons all over the list, is filtered again as a whole, which takes about as long as
+     * moving the rest of the view once for one range.
+     */
+    static final int MAX_INCREMENTAL_RANGES = 16;
+
+    private final List<Person> source;
+    private final List<PersonListListener> listeners = new CopyOnWriteArrayList<>();
+    private Predicate<? super Person> predicate;
+
+    /** The positions in the source list of the persons in the view, in increasing order. */
+    private int[] sourceIndices = new int[0];
+    private int size;
+
+    /**
+     * Creates a view of the persons in {@code source} that match {@code predicate}.
+     */
+    FilteredPersonList(List<Person> source, Predicate<? super Person> predicate) {
+        requireNonNull(source);
+        requireNonNull(predicate);
+        this.source = source;
+        this.predicate = predicate;
+        refilter(predicate, CancellationToken.NONE);
+    }
+
+    Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Filters the source list by {@code predicate} instead, in one change of the whole view.
+     */
+    void setPredicate(Predicate<? super Person> predicate) {
+        setPredicate(predicate, CancellationToken.NONE);
+    }
+
+    /**
+     * Filters the source list by {@code predicate} instead, in one change of the whole view,
+     * checking {@code cancellationToken} as it goes. If it is cancelled, the view is left as it was.
+     *
+     * @throws java.util.concurrent.CancellationException if {@code cancellationToken} is cancelled.
+     */
+    void setPredicate(Predicate<? super Person> predicate, CancellationToken cancellationToken) {
+        requireNonNull(predicate);
+        requireNonNull(cancellationToken);
+        List<Person> removed = listeners.isEmpty() ? List.of() : new ArrayList<>(this);
+        refilter(predicate, cancellationToken);
+        this.predicate = predicate;
+        fireReplaced(removed);
+    }
+
+    /**
+     * Adds a listener that is told of each change to the view.
+     */
+    void addListener(PersonListListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public Person get(int index) {
+        Objects.checkIndex(index, size);
+        return source.get(sourceIndices[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void onChanged(PersonListChange change) {
+        if (change.getRanges().size() > MAX_INCREMENTAL_RANGES) {
+            List<Person> removed = listeners.isEmpty() ? List.of() : snapshotBefore(change);
+            refilter(predicate, CancellationToken.NONE);
+            fireReplaced(removed);
+            return;
+        }
+
+        List<PersonListChange.Range> ranges = new ArrayList<>();
+        for (PersonListChange.Range range : change.getRanges()) {
+            PersonListChange.Range filteredRange = apply(range);
+            if (filteredRange != null) {
+                ranges.add(filteredRange);
+            }
+        }
+        if (!ranges.isEmpty() && !listeners.isEmpty()) {
+            fireChange(new PersonListChange(ranges));
+        }
+    }
+
+    /**
+     * Applies {@code range} of a change to the source list to the view.
+     *
+     * @return the range of the view that changed, or null if the view did not change.
+     */
+    private PersonListChange.Range apply(PersonListChange.Range range) {
+        int from = range.getFrom();
+        List<Person> removedFromSource = range.getRemoved();
+        List<Person> addedToSource = range.getAdded();
+
+        // the persons removed from the source are given by the change, as the source no longer has them
+        int start = lowerBound(from);
+        int end = lowerBound(from + removedFromSource.size());
+        List<Person> removed = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removed.add(removedFromSource.get(sourceIndices[i] - from));
+        }
+
+        int[] addedIndices = new int[addedToSource.size()];
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < addedToSource.size(); i++) {
+            if (predicate.test(addedToSource.get(i))) {
+                addedIndices[added.size()] = from + i;
+                added.add(addedToSource.get(i));
+            }
+        }
+
+        int newSize = size - (end - start) + added.size();
+        int shift = addedToSource.size() - removedFromSource.size();
+        if (start + added.size() != end || shift != 0) {
+            if (newSize > sourceIndices.length) {
+                sourceIndices = Arrays.copyOf(sourceIndices, Math.max(newSize, sourceIndices.length * 2));
+            }
+            System.arraycopy(sourceIndices, end, sourceIndices, start + added.size(), size - end);
+            for (int i = start + added.size(); i < newSize; i++) {
+                sourceIndices[i] += shift;
+            }
+        }
+        System.arraycopy(addedIndices, 0, sourceIndices, start, added.size());
+        size = newSize;
+
+        return removed.isEmpty() && added.isEmpty() ? null : new PersonListChange.Range(start, removed, added);
+    }
+
+    /**
+     * Returns the view as it was before {@code change} was made to the source list.
+     */
+    private List<Person> snapshotBefore(PersonListChange change) {
+        List<Person> sourceBefore = new ArrayList<>(source);
+        List<PersonListChange.Range> ranges = change.getRanges();
+        for (int i = ranges.size() - 1; i >= 0; i--) {
+            PersonListChange.Range range = ranges.get(i);
+            List<Person> addedRange = sourceBefore.subList(range.getFrom(), range.getFrom() + range.getAdded().size());
+            addedRange.clear();
+            addedRange.addAll(range.getRemoved());
+        }
+        List<Person> before = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            before.add(sourceBefore.get(sourceIndices[i]));
+        }
+        return before;
+    }
+
+    /**
+     * Filters the whole source list by {@code predicate}, only replacing the view once all of it is filtered.
+     */
+    private void refilter(Predicate<? super Person> predicate, CancellationToken cancellationToken) {
+        int[] filteredIndices = new int[source.size()];
+        int filteredSize = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (i % CancellationToken.CHUNK_SIZE == 0) {
+                cancellationToken.throwIfCancelled();
+            }
+            if (predicate.test(source.get(i))) {
+                filteredIndices[filteredSize++] = i;
+            }
+        }
+        sourceIndices = filteredIndices;
+        size = filteredSize;
+    }
+
+    /**
+     * Returns the first position in the view whose person is at or after {@code sourceIndex} in the source list.
+     */
+    private int lowerBound(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sourceIndices[middle] < sourceIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Tells the listeners that the persons {@code removed} were replaced by the whole view.
+     */
+    private void fireReplaced(List<Person> removed) {
+        if (listeners.isEmpty() || (removed.isEmpty() && size == 0)) {
+            return;
+        }
+        fireChange(new PersonListChange(0, removed, new ArrayList<>(this)));
+    }
+
+    private void fireChange(PersonListChange change) {
+        for (PersonListListener listener : listeners) {
+            listener.onChanged(change);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.CancellationToken;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListListener;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -49,6 +53,21 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Changes the address book to have the persons of {@code addressBook}, by adding, editing and deleting
+     * only the persons that differ, matched by identity. Unlike {@link #setAddressBook(ReadOnlyAddressBook)},
+     * the person list reports only these changes rather than being replaced.
+     *
+     * @return the differences applied.
+     */
+    AddressBookDiff updateAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Applies {@code diff} to the address book, with one change to the person list for each kind of difference.
+     * The removed and edited persons must exist in the address book, and the added persons must not.
+     */
+    void applyDiff(AddressBookDiff diff);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
@@ -69,6 +88,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons in one change.
+     * None of {@code persons} may already exist in the address book, or be the same as another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,12 +101,45 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons in the address book tagged with {@code tag}, looked up in the index of the persons
+     * rather than by scanning the address book.
+     */
+    Set<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Adds a listener that is told of each change to the persons in the address book.
+     */
+    void addPersonListListener(PersonListListener listener);
+
     /** Returns an unmodifiable view of the filtered person list */
-    ObservableList<Person> getFilteredPersonList();
+    List<Person> getFilteredPersonList();
+
+    /**
+     * Adds a listener that is told of each change to the filtered person list, including changes of its filter.
+     */
+    void addFilteredPersonListListener(PersonListListener listener);
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, checking
+     * {@code cancellationToken} as the persons are filtered. If it is cancelled, the list is left as it was.
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws java.util.concurrent.CancellationException if {@code cancellationToken} is cancelled.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, CancellationToken cancellationToken);
+
+    /** Returns the predicate that the filtered person list is filtered by. */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns a copy of this model, with its own copy of the address book and user prefs and the same filter
+     * on its person list. Changes to the copy do not affect this model.
+     */
+    Model copy();
 }
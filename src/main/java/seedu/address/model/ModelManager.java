@@ -4,14 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.CancellationToken;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListListener;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,7 +24,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private Predicate<Person> filteredPersonsPredicate = PREDICATE_SHOW_ALL_PERSONS;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +37,8 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        this.addressBook.addPersonListListener(filteredPersons);
     }
 
     public ModelManager() {
@@ -82,11 +87,45 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public AddressBookDiff updateAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        AddressBookDiff diff = AddressBookDiff.of(this.addressBook.getPersonList(), addressBook.getPersonList());
+        applyDiff(diff);
+        return diff;
+    }
+
+    @Override
+    public void applyDiff(AddressBookDiff diff) {
+        requireNonNull(diff);
+        if (!diff.isEmpty()) {
+            addressBook.applyDiff(diff);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    /**
+     * Returns a number that changes whenever the persons in the address book change.
+     */
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    /**
+     * Uses {@code personIndex} as the index of the persons in the address book,
+     * if they have not changed since {@code version}.
+     *
+     * @return true if {@code personIndex} is used.
+     * @see AddressBook#setPersonIndex(PersonIndex, long)
+     */
+    public boolean setPersonIndex(PersonIndex personIndex, long version) {
+        return addressBook.setPersonIndex(personIndex, version);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -104,6 +143,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -111,6 +157,19 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        // copied, so that the persons can be changed while going through them
+        return Set.copyOf(addressBook.getPersonIndex().getPersonsWithTag(tag));
+    }
+
+    @Override
+    public void addPersonListListener(PersonListListener listener) {
+        requireNonNull(listener);
+        addressBook.addPersonListListener(listener);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -118,14 +177,37 @@ public class ModelManager implements Model {
      * {@code versionedAddressBook}
      */
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
+    public List<Person> getFilteredPersonList() {
         return filteredPersons;
     }
 
+    @Override
+    public void addFilteredPersonListListener(PersonListListener listener) {
+        filteredPersons.addListener(listener);
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
-        requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        updateFilteredPersonList(predicate, CancellationToken.NONE);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, CancellationToken cancellationToken) {
+        requireAllNonNull(predicate, cancellationToken);
+        filteredPersons.setPredicate(predicate, cancellationToken);
+        filteredPersonsPredicate = predicate;
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return filteredPersonsPredicate;
+    }
+
+    @Override
+    public Model copy() {
+        ModelManager copy = new ModelManager(addressBook, userPrefs);
+        copy.updateFilteredPersonList(filteredPersonsPredicate);
+        return copy;
     }
 
     @Override
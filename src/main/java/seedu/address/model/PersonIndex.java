@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes persons by their tags, so that the persons with a given tag can be found
+ * without scanning the whole address book.
+ */
+public class PersonIndex {
+
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+
+    /**
+     * Creates an index of {@code persons}.
+     */
+    public static PersonIndex of(List<Person> persons) {
+        requireNonNull(persons);
+        PersonIndex index = new PersonIndex();
+        persons.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Adds {@code person} under all of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            putTag(tag, person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under all of its tags.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.get(tag);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code person} under the tag {@code tag} only.
+     * Used to restore a saved index, which must have been saved with the same persons.
+     */
+    public void putTag(Tag tag, Person person) {
+        personsByTag.computeIfAbsent(tag, key -> new HashSet<>()).add(person);
+    }
+
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        Set<Person> persons = personsByTag.get(tag);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(personsByTag.keySet());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonIndex // instanceof handles nulls
+                && personsByTag.equals(((PersonIndex) other).personsByTag));
+    }
+
+    @Override
+    public int hashCode() {
+        return personsByTag.hashCode();
+    }
+}
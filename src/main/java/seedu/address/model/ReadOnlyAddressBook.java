@@ -1,6 +1,7 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+
 import seedu.address.model.person.Person;
 
 /**
@@ -12,6 +13,6 @@ public interface ReadOnlyAddressBook {
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
      */
-    ObservableList<Person> getPersonList();
+    List<Person> getPersonList();
 
 }
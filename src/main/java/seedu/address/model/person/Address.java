@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.validation.Validators;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -25,16 +27,30 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, true);
+    }
+
+    private Address(String address, boolean shouldValidate) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        }
         value = address;
     }
 
+    /**
+     * Returns a {@code Address} of {@code address} without validating it.
+     * Only for values known to be valid, such as those read back unchanged from data saved by this app.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, false);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return Validators.ADDRESS.isValid(test);
     }
 
     @Override
@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A change to a list of persons, made up of the ranges of the list that were replaced, in the order they were
+ * replaced. The position of each range is its position once the ranges before it were replaced, so replaying the
+ * ranges one after another brings a copy of the list up to date.
+ * A range that only adds persons has no removed persons, and one that only removes persons has no added persons.
+ */
+public class PersonListChange {
+
+    private final List<Range> ranges;
+
+    /**
+     * Creates a {@code PersonListChange} made up of {@code ranges}, which must not be empty.
+     */
+    public PersonListChange(List<Range> ranges) {
+        requireNonNull(ranges);
+        if (ranges.isEmpty()) {
+            throw new IllegalArgumentException("A change must change at least one range");
+        }
+        this.ranges = Collections.unmodifiableList(new ArrayList<>(ranges));
+    }
+
+    /**
+     * Creates a {@code PersonListChange} that replaces the persons {@code removed} at {@code from}
+     * with the persons {@code added}.
+     */
+    public PersonListChange(int from, List<Person> removed, List<Person> added) {
+        this(List.of(new Range(from, removed, added)));
+    }
+
+    public List<Range> getRanges() {
+        return ranges;
+    }
+
+    /**
+     * Returns the persons removed by all of the ranges, in order.
+     */
+    public List<Person> getRemoved() {
+        List<Person> removed = new ArrayList<>();
+        ranges.forEach(range -> removed.addAll(range.getRemoved()));
+        return removed;
+    }
+
+    /**
+     * Returns the persons added by all of the ranges, in order.
+     */
+    public List<Person> getAdded() {
+        List<Person> added = new ArrayList<>();
+        ranges.forEach(range -> added.addAll(range.getAdded()));
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonListChange // instanceof handles nulls
+                && ranges.equals(((PersonListChange) other).ranges));
+    }
+
+    @Override
+    public int hashCode() {
+        return ranges.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return ranges.toString();
+    }
+
+    /**
+     * A range of the list whose persons {@code removed}, starting at {@code from}, were replaced by
+     * the persons {@code added}.
+     */
+    public static class Range {
+        private final int from;
+        private final List<Person> removed;
+        private final List<Person> added;
+
+        /**
+         * Creates a {@code Range} in which the persons {@code removed} at {@code from} were replaced
+         * by the persons {@code added}. At least one of them must not be empty.
+         */
+        public Range(int from, List<Person> removed, List<Person> added) {
+            requireNonNull(removed);
+            requireNonNull(added);
+            if (from < 0 || (removed.isEmpty() && added.isEmpty())) {
+                throw new IllegalArgumentException("A range must change at least one person");
+            }
+            this.from = from;
+            this.removed = Collections.unmodifiableList(removed);
+            this.added = Collections.unmodifiableList(added);
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public List<Person> getRemoved() {
+            return removed;
+        }
+
+        public List<Person> getAdded() {
+            return added;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Range)) {
+                return false;
+            }
+
+            Range otherRange = (Range) other;
+            return from == otherRange.from
+                    && removed.equals(otherRange.removed)
+                    && added.equals(otherRange.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+
+        @Override
+        public String toString() {
+            return "at " + from + ": -" + removed.size() + " +" + added.size();
+        }
+    }
+}
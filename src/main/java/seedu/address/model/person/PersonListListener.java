@@ -0,0 +1,15 @@
+package seedu.address.model.person;
+
+/**
+ * Listens for changes to a list of persons.
+ * Each change is told as one {@link PersonListChange} once it has been made in full, however many persons it
+ * changes, and without the JavaFX change events that an {@code ObservableList} would build for it.
+ */
+@FunctionalInterface
+public interface PersonListListener {
+
+    /**
+     * Called after {@code change} has been made to the list.
+     */
+    void onChanged(PersonListChange change);
+}
@@ -3,11 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,15 +23,16 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Each operation is told to the {@link PersonListListener}s of the list
+ * as a single {@link PersonListChange}, however many persons it changes.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final List<Person> internalList = new ArrayList<>();
+    private final List<Person> internalUnmodifiableList = Collections.unmodifiableList(internalList);
+    private final List<PersonListListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -46,6 +52,37 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        if (hasListeners()) {
+            fireChange(new PersonListChange(internalList.size() - 1, List.of(), List.of(toAdd)));
+        }
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in one change.
+     * None of the persons may already exist in the list, or be the same as another of them.
+     */
+    public void addAll(List<Person> toAdd) {
+        fireChange(addAllRanges(toAdd));
+    }
+
+    private List<PersonListChange.Range> addAllRanges(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>(internalList.size() + toAdd.size());
+        for (Person person : internalList) {
+            names.add(person.getName());
+        }
+        for (Person person : toAdd) {
+            // Person#isSamePerson(Person) compares names only
+            if (!names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return List.of();
+        }
+        int from = internalList.size();
+        internalList.addAll(toAdd);
+        return List.of(new PersonListChange.Range(from, List.of(), new ArrayList<>(toAdd)));
     }
 
     /**
@@ -65,7 +102,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        if (hasListeners()) {
+            fireChange(new PersonListChange(index, List.of(replaced), List.of(editedPerson)));
+        }
     }
 
     /**
@@ -74,14 +114,162 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        Person removed = internalList.remove(index);
+        if (hasListeners()) {
+            fireChange(new PersonListChange(index, List.of(removed), List.of()));
+        }
+    }
+
+    /**
+     * Replaces each person in the list that is a key of {@code replacements} with the person it maps to,
+     * which must have the same identity. Each replaced person keeps its position in the list.
+     * All of the keys must exist in the list, and the list is left as it is if any do not.
+     */
+    public void replaceAll(Map<Person, Person> replacements) {
+        fireChange(replaceAllRanges(replacements));
+    }
+
+    private List<PersonListChange.Range> replaceAllRanges(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        int[] indices = new int[replacements.size()];
+        int replacedCount = 0;
+        for (int i = 0; i < internalList.size() && replacedCount < replacements.size(); i++) {
+            Person replacement = replacements.get(internalList.get(i));
+            if (replacement != null) {
+                if (!internalList.get(i).isSamePerson(replacement)) {
+                    throw new DuplicatePersonException();
+                }
+                indices[replacedCount++] = i;
+            }
+        }
+        if (replacedCount < replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+        if (replacedCount == 0) {
+            return List.of();
+        }
+
+        // adjacent replacements are told as one range, so replacing all persons is a single range of the list
+        List<PersonListChange.Range> ranges = new ArrayList<>();
+        for (int start = 0, end = 1; start < replacedCount; start = end++) {
+            while (end < replacedCount && indices[end] == indices[end - 1] + 1) {
+                end++;
+            }
+            List<Person> removed = new ArrayList<>(end - start);
+            List<Person> added = new ArrayList<>(end - start);
+            for (int k = start; k < end; k++) {
+                Person replaced = internalList.get(indices[k]);
+                Person replacement = replacements.get(replaced);
+                internalList.set(indices[k], replacement);
+                removed.add(replaced);
+                added.add(replacement);
+            }
+            ranges.add(new PersonListChange.Range(indices[start], removed, added));
+        }
+        return ranges;
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list in one change.
+     * All of the persons must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        fireChange(removeAllRanges(toRemove));
+    }
+
+    private List<PersonListChange.Range> removeAllRanges(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = new HashSet<>(toRemove);
+        if (!new HashSet<>(internalList).containsAll(removed)) {
+            throw new PersonNotFoundException();
+        }
+        if (removed.isEmpty()) {
+            return List.of();
+        }
+
+        // each run of adjacent removed persons is one range, at its position in the list once shortened
+        List<Person> kept = new ArrayList<>(internalList.size() - removed.size());
+        List<PersonListChange.Range> ranges = new ArrayList<>();
+        List<Person> run = new ArrayList<>();
+        for (Person person : internalList) {
+            if (removed.contains(person)) {
+                run.add(person);
+                continue;
+            }
+            if (!run.isEmpty()) {
+                ranges.add(new PersonListChange.Range(kept.size(), run, List.of()));
+                run = new ArrayList<>();
+            }
+            kept.add(person);
+        }
+        if (!run.isEmpty()) {
+            ranges.add(new PersonListChange.Range(kept.size(), run, List.of()));
+        }
+        internalList.clear();
+        internalList.addAll(kept);
+        return ranges;
+    }
+
+    /**
+     * Removes all of {@code toRemove}, replaces the keys of {@code replacements} and then adds all of {@code toAdd},
+     * as {@link #removeAll(Collection)}, {@link #replaceAll(Map)} and {@link #addAll(List)} would one after another,
+     * but in one change. The list is left as it is if any of them would fail.
+     */
+    public void applyAll(Collection<Person> toRemove, Map<Person, Person> replacements, List<Person> toAdd) {
+        checkApplicable(toRemove, replacements, toAdd);
+        List<PersonListChange.Range> ranges = new ArrayList<>(removeAllRanges(toRemove));
+        ranges.addAll(replaceAllRanges(replacements));
+        ranges.addAll(addAllRanges(toAdd));
+        fireChange(ranges);
+    }
+
+    /**
+     * Checks that {@link #applyAll(Collection, Map, List)} can apply all of its stages, without changing the list,
+     * throwing what the first stage that would fail throws.
+     */
+    private void checkApplicable(Collection<Person> toRemove, Map<Person, Person> replacements, List<Person> toAdd) {
+        requireAllNonNull(toRemove);
+        requireNonNull(replacements);
+        requireAllNonNull(toAdd);
+        Set<Person> removed = new HashSet<>(toRemove);
+        if (!new HashSet<>(internalList).containsAll(removed)) {
             throw new PersonNotFoundException();
         }
+
+        // replacements keep the identity of the persons they replace, so the names left are those of the kept persons
+        Set<Name> names = new HashSet<>(internalList.size() + toAdd.size());
+        int replacedCount = 0;
+        for (Person person : internalList) {
+            if (removed.contains(person)) {
+                continue;
+            }
+            Person replacement = replacements.get(person);
+            if (replacement != null) {
+                if (!person.isSamePerson(replacement)) {
+                    throw new DuplicatePersonException();
+                }
+                replacedCount++;
+            }
+            names.add(person.getName());
+        }
+        if (replacedCount < replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        for (Person person : toAdd) {
+            if (!names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setAll(replacement.internalList);
     }
 
     /**
@@ -94,16 +282,40 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        setAll(persons);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, without checking them for duplicates.
+     * Only for persons known to be unique, such as those read back unchanged from data saved by this app.
+     */
+    public void setTrustedPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        setAll(persons);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code List}.
      */
-    public ObservableList<Person> asUnmodifiableObservableList() {
+    public List<Person> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Adds a listener that is told of each change to the list.
+     */
+    public void addListener(PersonListListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(PersonListListener)}.
+     */
+    public void removeListener(PersonListListener listener) {
+        listeners.remove(listener);
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -121,15 +333,47 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    /**
+     * Replaces the contents of this list with {@code persons} in one change.
+     */
+    private void setAll(List<Person> persons) {
+        if (persons == internalList) {
+            return;
+        }
+        // the persons replaced are only copied for listeners, so that loading without any stays cheap
+        List<Person> removed = hasListeners() ? new ArrayList<>(internalList) : List.of();
+        internalList.clear();
+        internalList.addAll(persons);
+        if (hasListeners() && !(removed.isEmpty() && persons.isEmpty())) {
+            fireChange(new PersonListChange(0, removed, new ArrayList<>(persons)));
+        }
+    }
+
+    private boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    private void fireChange(List<PersonListChange.Range> ranges) {
+        if (hasListeners() && !ranges.isEmpty()) {
+            fireChange(new PersonListChange(ranges));
+        }
+    }
+
+    private void fireChange(PersonListChange change) {
+        for (PersonListListener listener : listeners) {
+            listener.onChanged(change);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Person#isSamePerson(Person) compares names only, so unique names mean unique persons
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
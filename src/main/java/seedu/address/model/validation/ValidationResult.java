@@ -0,0 +1,29 @@
+package seedu.address.model.validation;
+
+/**
+ * The outcome of validating a value with a {@link Validator}.
+ * Every outcome other than {@code VALID} identifies the constraint that the value violates.
+ */
+public enum ValidationResult {
+    VALID,
+    /** The value is empty. */
+    EMPTY,
+    /** The value starts with whitespace. */
+    LEADING_WHITESPACE,
+    /** The value contains a character that is not allowed. */
+    ILLEGAL_CHARACTER,
+    /** The value has fewer characters than required. */
+    TOO_SHORT,
+    /** The value spans more than one line. */
+    LINE_BREAK,
+    /** The value has no '@' separating the local part from the domain. */
+    MISSING_AT,
+    /** The part of the value before the '@' is not a valid email local part. */
+    INVALID_LOCAL_PART,
+    /** The part of the value after the '@' is not a valid domain name. */
+    INVALID_DOMAIN;
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
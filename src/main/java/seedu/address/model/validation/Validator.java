@@ -0,0 +1,21 @@
+package seedu.address.model.validation;
+
+/**
+ * Checks values against the constraints of a field.
+ */
+@FunctionalInterface
+public interface Validator {
+
+    /**
+     * Returns {@link ValidationResult#VALID} if {@code value} satisfies the constraints,
+     * or the constraint that it violates otherwise.
+     */
+    ValidationResult validate(CharSequence value);
+
+    /**
+     * Returns true if {@code value} satisfies the constraints.
+     */
+    default boolean isValid(CharSequence value) {
+        return validate(value).isValid();
+    }
+}
@@ -0,0 +1,212 @@
+package seedu.address.model.validation;
+
+import static seedu.address.model.validation.ValidationResult.EMPTY;
+import static seedu.address.model.validation.ValidationResult.ILLEGAL_CHARACTER;
+import static seedu.address.model.validation.ValidationResult.INVALID_DOMAIN;
+import static seedu.address.model.validation.ValidationResult.INVALID_LOCAL_PART;
+import static seedu.address.model.validation.ValidationResult.LEADING_WHITESPACE;
+import static seedu.address.model.validation.ValidationResult.LINE_BREAK;
+import static seedu.address.model.validation.ValidationResult.MISSING_AT;
+import static seedu.address.model.validation.ValidationResult.TOO_SHORT;
+import static seedu.address.model.validation.ValidationResult.VALID;
+
+/**
+ * Hand-written validators for the fields of a person.
+ * Each validator accepts exactly the values matched by the {@code VALIDATION_REGEX} of its field,
+ * but makes a single pass over the value without compiling a pattern or allocating any objects.
+ */
+public final class Validators {
+
+    /** Validates names, as specified by {@code Name#VALIDATION_REGEX}. */
+    public static final Validator NAME = Validators::validateName;
+
+    /** Validates phone numbers, as specified by {@code Phone#VALIDATION_REGEX}. */
+    public static final Validator PHONE = Validators::validatePhone;
+
+    /** Validates emails, as specified by {@code Email#VALIDATION_REGEX}. */
+    public static final Validator EMAIL = Validators::validateEmail;
+
+    /** Validates addresses, as specified by {@code Address#VALIDATION_REGEX}. */
+    public static final Validator ADDRESS = Validators::validateAddress;
+
+    /** Validates tag names, as specified by {@code Tag#VALIDATION_REGEX}. */
+    public static final Validator TAG = Validators::validateTagName;
+
+    private static final int MIN_PHONE_LENGTH = 3;
+    private static final String EMAIL_SPECIAL_CHARACTERS = "+_.-";
+
+    private Validators() {}
+
+    private static ValidationResult validateName(CharSequence value) {
+        if (value.length() == 0) {
+            return EMPTY;
+        }
+        if (value.charAt(0) == ' ') {
+            return LEADING_WHITESPACE;
+        }
+        if (!isAlphanumeric(value.charAt(0))) {
+            return ILLEGAL_CHARACTER;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return ILLEGAL_CHARACTER;
+            }
+        }
+        return VALID;
+    }
+
+    private static ValidationResult validatePhone(CharSequence value) {
+        if (value.length() == 0) {
+            return EMPTY;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!isDigit(value.charAt(i))) {
+                return ILLEGAL_CHARACTER;
+            }
+        }
+        return value.length() < MIN_PHONE_LENGTH ? TOO_SHORT : VALID;
+    }
+
+    private static ValidationResult validateTagName(CharSequence value) {
+        if (value.length() == 0) {
+            return EMPTY;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!isAlphanumeric(value.charAt(i))) {
+                return ILLEGAL_CHARACTER;
+            }
+        }
+        return VALID;
+    }
+
+    private static ValidationResult validateAddress(CharSequence value) {
+        if (value.length() == 0) {
+            return EMPTY;
+        }
+        if (isWhitespace(value.charAt(0))) {
+            return LEADING_WHITESPACE;
+        }
+        // the first character may be anything but whitespace, the rest anything but a line terminator
+        for (int i = 1; i < value.length(); i++) {
+            if (isLineTerminator(value.charAt(i))) {
+                return LINE_BREAK;
+            }
+        }
+        return VALID;
+    }
+
+    private static ValidationResult validateEmail(CharSequence value) {
+        if (value.length() == 0) {
+            return EMPTY;
+        }
+        int at = indexOf(value, '@');
+        if (at < 0) {
+            return MISSING_AT;
+        }
+        if (!isLocalPart(value, 0, at)) {
+            return INVALID_LOCAL_PART;
+        }
+        if (!isDomain(value, at + 1, value.length())) {
+            return INVALID_DOMAIN;
+        }
+        return VALID;
+    }
+
+    /**
+     * Returns true if {@code value[start, end)} consists of alphanumeric runs separated by single special characters.
+     */
+    private static boolean isLocalPart(CharSequence value, int start, int end) {
+        if (start == end || !isAlphanumeric(value.charAt(start)) || !isAlphanumeric(value.charAt(end - 1))) {
+            return false;
+        }
+        boolean isAfterSpecialCharacter = false;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterSpecialCharacter = false;
+            } else if (EMAIL_SPECIAL_CHARACTERS.indexOf(c) >= 0 && !isAfterSpecialCharacter) {
+                isAfterSpecialCharacter = true;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value[start, end)} consists of domain labels separated by periods,
+     * the last of which is at least 2 characters long.
+     */
+    private static boolean isDomain(CharSequence value, int start, int end) {
+        int labelStart = start;
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) == '.') {
+                if (!isDomainLabel(value, labelStart, i)) {
+                    return false;
+                }
+                labelStart = i + 1;
+            }
+        }
+        return isDomainLabel(value, labelStart, end) && hasAdjacentAlphanumerics(value, labelStart, end);
+    }
+
+    /**
+     * Returns true if {@code value[start, end)} consists of alphanumeric runs separated by single hyphens.
+     */
+    private static boolean isDomainLabel(CharSequence value, int start, int end) {
+        if (start == end || !isAlphanumeric(value.charAt(start)) || !isAlphanumeric(value.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = value.charAt(i);
+            if (!isAlphanumeric(c) && !(c == '-' && value.charAt(i + 1) != '-')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value[start, end)} has two alphanumeric characters next to each other.
+     * The last domain label must be made up of at least two parts that are each valid labels, which is only
+     * possible if it can be split between two alphanumeric characters.
+     */
+    private static boolean hasAdjacentAlphanumerics(CharSequence value, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (isAlphanumeric(value.charAt(i - 1)) && isAlphanumeric(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(CharSequence value, char target) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Matches {@code \p{Alnum}}, which only covers ASCII letters and digits. */
+    private static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /** Matches {@code \d}, which only covers ASCII digits. */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** Matches {@code \s}, which only covers ASCII whitespace. */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /** Matches the characters that {@code .} does not match. */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The on-disk formats an address book data file can be stored in.
+ */
+enum AddressBookFileFormat {
+    JSON(".json"),
+    BINARY(BinaryAddressBookStorage.FILE_EXTENSION);
+
+    private static final int HEADER_LENGTH = 4;
+
+    private final String extension;
+
+    AddressBookFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the format of the existing file at {@code file}, judging by its content rather than its name.
+     * Files that are not recognised as any other format are assumed to be JSON.
+     */
+    public static AddressBookFileFormat detect(Path file) throws IOException {
+        byte[] header = new byte[HEADER_LENGTH];
+        int length;
+        try (InputStream in = Files.newInputStream(file)) {
+            length = in.readNBytes(header, 0, header.length);
+        }
+        return BinaryAddressBookCodec.hasMagic(header, length) ? BINARY : JSON;
+    }
+
+    /**
+     * Returns the format that a file at {@code file} should be written in, judging by its extension.
+     */
+    public static AddressBookFileFormat fromFileName(Path file) {
+        String fileName = String.valueOf(file.getFileName());
+        return fileName.endsWith(BINARY.extension) ? BINARY : JSON;
+    }
+
+    /**
+     * Returns the path of the file next to {@code file} that has the same name but this format's extension.
+     */
+    public Path siblingOf(Path file) {
+        String fileName = String.valueOf(file.getFileName());
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return file.resolveSibling(baseName + extension);
+    }
+}
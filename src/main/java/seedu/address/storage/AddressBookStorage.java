@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns the hash of the content of the data file as this storage last read or saved it,
+     * or {@code Optional.empty()} if the hash is not known, such as when the data was read without hashing it.
+     */
+    default Optional<String> getContentHash() {
+        return Optional.empty();
+    }
+
 }
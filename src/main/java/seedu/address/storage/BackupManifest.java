@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a backup, which lists the hashes of the chunks that the backed up file is made of, in order.
+ */
+class BackupManifest {
+
+    static final int FORMAT_VERSION = 1;
+
+    private final int formatVersion;
+    private final long size;
+    private final String contentHash;
+    private final List<String> chunks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code BackupManifest} with the given details.
+     */
+    @JsonCreator
+    public BackupManifest(@JsonProperty("formatVersion") int formatVersion, @JsonProperty("size") long size,
+            @JsonProperty("contentHash") String contentHash, @JsonProperty("chunks") List<String> chunks) {
+        this.formatVersion = formatVersion;
+        this.size = size;
+        this.contentHash = contentHash;
+        if (chunks != null) {
+            this.chunks.addAll(chunks);
+        }
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public List<String> getChunks() {
+        return Collections.unmodifiableList(chunks);
+    }
+}
@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A class to keep incremental backups of a data file in a backup directory.
+ * Each backup splits the file into content-defined chunks, stores each chunk once under the hash of its content,
+ * and saves a small manifest listing the chunks of the file. A backup of a file that has changed a little since
+ * the last backup only writes the few chunks that changed, and restoring a backup streams its chunks back in order.
+ */
+public class BackupStorage {
+
+    public static final String MANIFEST_FILE_EXTENSION = ".backup";
+    public static final String MESSAGE_BACKUP_NOT_FOUND = "There is no backup %1$s";
+    public static final String MESSAGE_CORRUPTED_BACKUP = "Backup %1$s is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(BackupStorage.class);
+
+    private static final String CHUNKS_DIRECTORY = "chunks";
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Backups are named by the time they were taken, so that their names sort in the order they were taken. */
+    private static final DateTimeFormatter BACKUP_ID_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final Clock clock;
+
+    public BackupStorage(Path directory) {
+        this(directory, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a {@code BackupStorage} in {@code directory} that names backups by the time on {@code clock}.
+     */
+    BackupStorage(Path directory, Clock clock) {
+        requireNonNull(directory);
+        requireNonNull(clock);
+        this.directory = directory;
+        this.clock = clock;
+    }
+
+    public Path getBackupDirectoryPath() {
+        return directory;
+    }
+
+    /**
+     * Backs up the file at {@code filePath}, writing only the chunks that no earlier backup has.
+     *
+     * @return the details of the backup.
+     */
+    public Backup backup(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        String backupId = newBackupId();
+        List<String> chunkHashes = new ArrayList<>();
+        MessageDigest contentDigest = JsonAddressBookManifest.newDigest();
+        long size = 0;
+        int newChunkCount = 0;
+        long newChunkBytes = 0;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            ContentDefinedChunker chunker = new ContentDefinedChunker(in);
+            for (byte[] chunk = chunker.nextChunk(); chunk != null; chunk = chunker.nextChunk()) {
+                contentDigest.update(chunk);
+                size += chunk.length;
+                String chunkHash = hash(chunk);
+                chunkHashes.add(chunkHash);
+                if (saveChunk(chunkHash, chunk)) {
+                    newChunkCount++;
+                    newChunkBytes += chunk.length;
+                }
+            }
+        }
+
+        // saved after its chunks, so that a backup is only listed once all of its chunks are saved
+        BackupManifest manifest = new BackupManifest(BackupManifest.FORMAT_VERSION, size,
+                toHex(contentDigest.digest()), chunkHashes);
+        Path manifestPath = getManifestPath(backupId);
+        Path tempFile = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(tempFile);
+        JsonUtil.saveJsonFile(manifest, tempFile);
+        FileUtil.moveAtomically(tempFile, manifestPath);
+
+        Backup backup = new Backup(backupId, size, chunkHashes.size(), newChunkCount, newChunkBytes);
+        logger.info("Backed up " + filePath + " as " + backup);
+        return backup;
+    }
+
+    /**
+     * Returns the IDs of the backups, from the oldest to the newest.
+     */
+    public List<String> getBackupIds() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        List<String> backupIds = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(MANIFEST_FILE_EXTENSION))
+                    .map(fileName -> fileName.substring(0, fileName.length() - MANIFEST_FILE_EXTENSION.length()))
+                    .sorted()
+                    .forEach(backupIds::add);
+        }
+        return backupIds;
+    }
+
+    /**
+     * Returns the time the newest backup was taken, or an empty {@code Optional} if there are no backups.
+     */
+    public Optional<Instant> getLastBackupTime() throws IOException {
+        List<String> backupIds = getBackupIds();
+        if (backupIds.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Files.getLastModifiedTime(getManifestPath(backupIds.get(backupIds.size() - 1)))
+                .toInstant());
+    }
+
+    /**
+     * Restores the file backed up as {@code backupId} to {@code filePath}, replacing it only once the whole
+     * file has been restored and checked against the hashes of its chunks.
+     *
+     * @throws DataConversionException if there is no such backup, or it is corrupted.
+     */
+    public void restore(String backupId, Path filePath) throws DataConversionException, IOException {
+        requireNonNull(backupId);
+        requireNonNull(filePath);
+
+        Path manifestPath = getManifestPath(backupId);
+        if (!isValidBackupId(backupId) || !Files.exists(manifestPath)) {
+            throw new DataConversionException(
+                    new IllegalValueException(String.format(MESSAGE_BACKUP_NOT_FOUND, backupId)));
+        }
+        BackupManifest manifest = JsonUtil.readJsonFile(manifestPath, BackupManifest.class).get();
+        if (manifest.getFormatVersion() != BackupManifest.FORMAT_VERSION) {
+            throw corrupted(backupId);
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".restore.tmp");
+        try {
+            MessageDigest contentDigest = JsonAddressBookManifest.newDigest();
+            long size = 0;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE)) {
+                for (String chunkHash : manifest.getChunks()) {
+                    byte[] chunk = readChunk(chunkHash);
+                    if (!hash(chunk).equals(chunkHash)) {
+                        throw corrupted(backupId);
+                    }
+                    contentDigest.update(chunk);
+                    size += chunk.length;
+                    out.write(chunk);
+                }
+            }
+            if (size != manifest.getSize() || !toHex(contentDigest.digest()).equals(manifest.getContentHash())) {
+                throw corrupted(backupId);
+            }
+            FileUtil.moveAtomically(tempFile, filePath);
+            logger.info("Restored backup " + backupId + " to " + filePath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Path getManifestPath(String backupId) {
+        return directory.resolve(backupId + MANIFEST_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the chunk with the hash {@code chunkHash}.
+     * Chunks are spread over subdirectories named by the first two digits of their hashes,
+     * so that no directory holds too many files.
+     */
+    private Path getChunkPath(String chunkHash) {
+        return directory.resolve(CHUNKS_DIRECTORY).resolve(chunkHash.substring(0, 2)).resolve(chunkHash);
+    }
+
+    /**
+     * Saves {@code chunk} under {@code chunkHash}, unless a chunk with that hash is already saved.
+     *
+     * @return true if the chunk is saved.
+     */
+    private boolean saveChunk(String chunkHash, byte[] chunk) throws IOException {
+        Path chunkPath = getChunkPath(chunkHash);
+        if (Files.exists(chunkPath)) {
+            return false;
+        }
+        FileUtil.createParentDirsOfFile(chunkPath);
+        // chunks are moved into place once complete, so a chunk that exists is never partly written
+        Path tempFile = chunkPath.resolveSibling(chunkHash + ".tmp");
+        Files.write(tempFile, chunk);
+        FileUtil.moveAtomically(tempFile, chunkPath);
+        return true;
+    }
+
+    private byte[] readChunk(String chunkHash) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(getChunkPath(chunkHash)))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private String newBackupId() {
+        String backupId = BACKUP_ID_FORMAT.format(clock.instant());
+        String uniqueBackupId = backupId;
+        for (int i = 1; Files.exists(getManifestPath(uniqueBackupId)); i++) {
+            uniqueBackupId = backupId + "-" + i;
+        }
+        return uniqueBackupId;
+    }
+
+    /**
+     * Returns true if {@code backupId} can be the ID of a backup, which keeps it from naming a file
+     * outside the backup directory.
+     */
+    private static boolean isValidBackupId(String backupId) {
+        return backupId.matches("[0-9-]+");
+    }
+
+    private static DataConversionException corrupted(String backupId) {
+        return new DataConversionException(
+                new IllegalValueException(String.format(MESSAGE_CORRUPTED_BACKUP, backupId)));
+    }
+
+    private static String hash(byte[] content) {
+        MessageDigest digest = JsonAddressBookManifest.newDigest();
+        return toHex(digest.digest(content));
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * The details of a backup just taken.
+     */
+    public static class Backup {
+        private final String id;
+        private final long size;
+        private final int chunkCount;
+        private final int newChunkCount;
+        private final long newChunkBytes;
+
+        Backup(String id, long size, int chunkCount, int newChunkCount, long newChunkBytes) {
+            this.id = id;
+            this.size = size;
+            this.chunkCount = chunkCount;
+            this.newChunkCount = newChunkCount;
+            this.newChunkBytes = newChunkBytes;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public int getChunkCount() {
+            return chunkCount;
+        }
+
+        public int getNewChunkCount() {
+            return newChunkCount;
+        }
+
+        public long getNewChunkBytes() {
+            return newChunkBytes;
+        }
+
+        @Override
+        public String toString() {
+            return id + " (" + size + " bytes in " + chunkCount + " chunks, of which " + newChunkCount
+                    + " new chunks of " + newChunkBytes + " bytes were written)";
+        }
+    }
+}
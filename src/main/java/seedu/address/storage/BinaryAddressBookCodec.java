@@ -0,0 +1,512 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes and decodes an address book in the compact binary snapshot format.
+ *
+ * Layout (all lengths and indices are unsigned varints, UTF-8 is used for all text):
+ * <pre>
+ *     magic "AB3B" | version | string table | person count | record... | offset table | offset table position
+ *     string table: count, then each string as length + bytes
+ *     record:       payload length, payload, CRC32 of the payload (4 bytes)
+ *     payload:      name, phone, email local part, email domain index,
+ *                   address, tag count, tag indices...
+ *     offset table: the position of each record in the file (4 bytes each), followed by
+ *                   the position of the offset table itself (4 bytes)
+ * </pre>
+ * Values that are shared by many persons (tag names and email domains) are stored once in the string table
+ * and referenced by index from the records.
+ * The fixed-width offset table lets a record be located without reading the ones before it.
+ * Version 1 files have no offset table, but can still be read sequentially.
+ */
+class BinaryAddressBookCodec {
+
+    public static final int VERSION = 2;
+    public static final int FIRST_VERSION_WITH_OFFSET_TABLE = 2;
+    public static final String MESSAGE_BAD_MAGIC = "Not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Checksum mismatch in person record %d";
+    public static final String MESSAGE_CORRUPTED_RECORD = "Person record %d is corrupted";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_CORRUPTED_OFFSET_TABLE = "The offset table is corrupted";
+    public static final String MESSAGE_CORRUPTED_HEADER = "The header is corrupted";
+    public static final String MESSAGE_FILE_TOO_LARGE = "Address book is too large for a binary snapshot";
+
+    /** The size in bytes of an entry in the offset table. */
+    static final int OFFSET_SIZE = Integer.BYTES;
+
+    /** The smallest possible size in bytes of a record: an empty payload and its checksum. */
+    private static final int MIN_RECORD_SIZE = 1 + Integer.BYTES;
+
+    private static final byte[] MAGIC = {'A', 'B', '3', 'B'};
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+
+    /**
+     * Returns true if {@code header} starts with the magic bytes of this format.
+     */
+    static boolean hasMagic(byte[] header, int length) {
+        if (length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary snapshot format.
+     * {@code out} is flushed but not closed.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        StringTable strings = new StringTable();
+        for (Person person : persons) {
+            strings.indexOf(domainOf(person.getEmail().value));
+            person.getTags().forEach(tag -> strings.indexOf(tag.tagName));
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        data.write(MAGIC);
+        writeVarInt(data, VERSION);
+        writeVarInt(data, strings.size());
+        for (String value : strings.values) {
+            writeString(data, value);
+        }
+
+        writeVarInt(data, persons.size());
+        int[] offsets = new int[persons.size()];
+        RecordBuffer record = new RecordBuffer();
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < offsets.length; i++) {
+            Person person = persons.get(i);
+            offsets[i] = data.size();
+            record.reset();
+            writeRecord(record.data, person, strings);
+            writeVarInt(data, record.size());
+            data.write(record.buffer(), 0, record.size());
+            crc.reset();
+            crc.update(record.buffer(), 0, record.size());
+            data.writeInt((int) crc.getValue());
+        }
+
+        int offsetTablePosition = data.size();
+        for (int offset : offsets) {
+            data.writeInt(offset);
+        }
+        data.writeInt(offsetTablePosition);
+        // DataOutputStream#size stops counting at Integer.MAX_VALUE, which would make the offsets invalid
+        if (data.size() == Integer.MAX_VALUE) {
+            throw new IOException(MESSAGE_FILE_TOO_LARGE);
+        }
+        data.flush();
+    }
+
+    private static void writeRecord(DataOutputStream record, Person person, StringTable strings) throws IOException {
+        String email = person.getEmail().value;
+        int at = email.lastIndexOf('@');
+        writeString(record, person.getName().fullName);
+        writeString(record, person.getPhone().value);
+        writeString(record, at < 0 ? email : email.substring(0, at));
+        // 0 is reserved for an email without a domain, which a valid Email never has
+        writeVarInt(record, at < 0 ? 0 : strings.indexOf(email.substring(at + 1)) + 1);
+        writeString(record, person.getAddress().value);
+        writeVarInt(record, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(record, strings.indexOf(tag.tagName));
+        }
+    }
+
+    /**
+     * Reads an address book in the binary snapshot format from {@code in}.
+     *
+     * @param size the number of bytes in {@code in}, which bounds the counts and lengths read from it.
+     * @throws IllegalValueException if the data is not in the expected format, fails its checksum,
+     *     or violates any data constraints.
+     * @throws IOException if there was a problem reading from {@code in}.
+     */
+    static AddressBook read(InputStream in, long size) throws IllegalValueException, IOException {
+        SnapshotInput data = new SnapshotInput(in, size);
+        Header header = readHeader(data);
+
+        // the count comes from the file, so it only sizes the collections up to a sane limit
+        int capacity = Math.min(header.personCount, MAX_INITIAL_CAPACITY);
+        List<Person> persons = new ArrayList<>(capacity);
+        UniqueNames names = new UniqueNames(capacity);
+        byte[] buffer = new byte[256];
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < header.personCount; i++) {
+            int length = readVarInt(data);
+            if (length < 0 || length > data.remaining()) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, i));
+            }
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            data.readFully(buffer, 0, length);
+            int checksum = data.readInt();
+            Person person = decodeRecord(buffer, length, checksum, i, header, crc);
+            names.add(person);
+            persons.add(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Reads the part of a snapshot that precedes the person records from {@code in}.
+     *
+     * @param size the number of bytes in {@code in}, which bounds the counts and lengths read from it.
+     */
+    static Header readHeader(InputStream in, long size) throws IllegalValueException, IOException {
+        return readHeader(new SnapshotInput(in, size));
+    }
+
+    private static Header readHeader(SnapshotInput data) throws IllegalValueException, IOException {
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!hasMagic(magic, magic.length)) {
+            throw new IllegalValueException(MESSAGE_BAD_MAGIC);
+        }
+        int version = readVarInt(data);
+        if (version < 1 || version > VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        // the string table has no checksum, so every count and length in it is checked against the bytes left
+        String[] strings = new String[requireFits(readVarInt(data), 1, data)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[requireFits(readVarInt(data), 1, data)];
+            data.readFully(bytes);
+            strings[i] = new String(bytes, UTF_8);
+        }
+        return new Header(version, strings, requireFits(readVarInt(data), MIN_RECORD_SIZE, data));
+    }
+
+    /**
+     * Returns {@code count} if that many items of at least {@code itemSize} bytes each fit in the rest of {@code in}.
+     *
+     * @throws IllegalValueException if {@code count} is negative or the items cannot fit.
+     */
+    private static int requireFits(int count, int itemSize, SnapshotInput in) throws IllegalValueException {
+        if (count < 0 || (long) count * itemSize > in.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_HEADER);
+        }
+        return count;
+    }
+
+    /**
+     * Verifies the checksum of the record payload in the first {@code length} bytes of {@code buffer}
+     * and decodes the person in it.
+     *
+     * @param index the position of the record in the file, used in error messages.
+     */
+    static Person decodeRecord(byte[] buffer, int length, int checksum, int index, Header header, CRC32 crc)
+            throws IllegalValueException {
+        crc.reset();
+        crc.update(buffer, 0, length);
+        if ((int) crc.getValue() != checksum) {
+            throw new IllegalValueException(String.format(MESSAGE_CHECKSUM_MISMATCH, index));
+        }
+        return readRecord(new RecordReader(buffer, length, index), header.strings, header.tags);
+    }
+
+    private static Person readRecord(RecordReader record, String[] strings, Tag[] tags)
+            throws IllegalValueException {
+        String name = record.readString();
+        String phone = record.readString();
+        String emailLocalPart = record.readString();
+        int domainIndex = record.readVarInt();
+        String email = domainIndex == 0
+                ? emailLocalPart
+                : emailLocalPart + '@' + record.lookup(strings, domainIndex - 1);
+        String address = record.readString();
+
+        int tagCount = record.readVarInt();
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = record.readVarInt();
+            String tagName = record.lookup(strings, tagIndex);
+            if (tags[tagIndex] == null) {
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags[tagIndex] = new Tag(tagName);
+            }
+            personTags.add(tags[tagIndex]);
+        }
+        record.requireFullyRead();
+
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), personTags);
+    }
+
+    private static String domainOf(String email) {
+        int at = email.lastIndexOf('@');
+        return at < 0 ? "" : email.substring(at + 1);
+    }
+
+    //// varint and string helpers
+
+    /**
+     * Reads a varint from the current position of {@code buffer}.
+     */
+    static int readVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = buffer.get() & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0) {
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * A snapshot being read sequentially, which knows how many of its bytes are left.
+     */
+    private static class SnapshotInput extends DataInputStream {
+        private final long size;
+
+        SnapshotInput(InputStream in, long size) {
+            super(new CompressionFormat.CountingInputStream(new BufferedInputStream(in, BUFFER_SIZE)));
+            this.size = size;
+        }
+
+        long remaining() {
+            return size - ((CompressionFormat.CountingInputStream) in).getCount();
+        }
+    }
+
+    /**
+     * The part of a snapshot that precedes the person records.
+     */
+    static class Header {
+        final int version;
+        final String[] strings;
+        final int personCount;
+
+        /**
+         * Tags created from the string table so far, shared by all persons with that tag.
+         * Tags are immutable, so a tag that is created twice by concurrent readers is harmless.
+         */
+        final Tag[] tags;
+
+        Header(int version, String[] strings, int personCount) {
+            this.version = version;
+            this.strings = strings;
+            this.personCount = personCount;
+            this.tags = new Tag[strings.length];
+        }
+
+        boolean hasOffsetTable() {
+            return version >= FIRST_VERSION_WITH_OFFSET_TABLE;
+        }
+    }
+
+    /**
+     * Checks that no two persons added have the same name, which is what {@code Person#isSamePerson} compares.
+     */
+    static class UniqueNames {
+        private final Set<Name> names;
+
+        UniqueNames(int expectedCount) {
+            names = new HashSet<>(Math.min(expectedCount, MAX_INITIAL_CAPACITY) * 2);
+        }
+
+        void add(Person person) throws IllegalValueException {
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+    }
+
+    /**
+     * Assigns each distinct shared value an index in order of first use.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int indexOf(String value) {
+            Integer index = indices.get(value);
+            if (index == null) {
+                index = values.size();
+                indices.put(value, index);
+                values.add(value);
+            }
+            return index;
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * A reusable in-memory buffer that a single record is serialized into before it is checksummed.
+     */
+    private static class RecordBuffer {
+        private final ExposedByteArrayOutputStream bytes = new ExposedByteArrayOutputStream();
+        private final DataOutputStream data = new DataOutputStream(bytes);
+
+        void reset() {
+            bytes.reset();
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        byte[] buffer() {
+            return bytes.buffer();
+        }
+    }
+
+    /**
+     * A {@code ByteArrayOutputStream} that gives access to its buffer without copying it.
+     */
+    private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
+    /**
+     * Reads the fields of a single checksum-verified record payload.
+     * Any attempt to read past the end of the payload is reported as a corrupted record.
+     */
+    private static class RecordReader {
+        private final byte[] buffer;
+        private final int length;
+        private final int recordIndex;
+        private int position;
+
+        RecordReader(byte[] buffer, int length, int recordIndex) {
+            this.buffer = buffer;
+            this.length = length;
+            this.recordIndex = recordIndex;
+        }
+
+        int readVarInt() throws IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < 32 && position < length; shift += 7) {
+                int b = buffer[position++] & 0xFF;
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw corrupted();
+        }
+
+        String readString() throws IllegalValueException {
+            int stringLength = readVarInt();
+            if (stringLength < 0 || stringLength > length - position) {
+                throw corrupted();
+            }
+            String value = new String(buffer, position, stringLength, UTF_8);
+            position += stringLength;
+            return value;
+        }
+
+        String lookup(String[] strings, int index) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw corrupted();
+            }
+            return strings[index];
+        }
+
+        void requireFullyRead() throws IllegalValueException {
+            if (position != length) {
+                throw corrupted();
+            }
+        }
+
+        private IllegalValueException corrupted() {
+            return new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, recordIndex));
+        }
+    }
+}
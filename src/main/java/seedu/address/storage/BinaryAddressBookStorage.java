@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * If the data file does not exist yet but a JSON data file of the same name does, the JSON data is migrated.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    /** The hash of the content of the data file as it was last read or saved, or null if it is not known. */
+    private volatile String contentHash;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        // forgotten until the read succeeds, as the data file has changed if it cannot be read
+        recordContentHash(filePath, null);
+        if (!Files.exists(filePath)) {
+            return migrateFrom(AddressBookFileFormat.JSON.siblingOf(filePath), filePath);
+        }
+
+        try {
+            if (AddressBookFileFormat.detect(filePath) == AddressBookFileFormat.JSON) {
+                JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+                Optional<ReadOnlyAddressBook> addressBook = jsonStorage.readAddressBook(filePath);
+                recordContentHash(filePath, jsonStorage.getContentHash().orElse(null));
+                return addressBook;
+            }
+            MessageDigest digest = JsonAddressBookManifest.newDigest();
+            ReadOnlyAddressBook addressBook = readBinaryFile(filePath, digest);
+            recordContentHash(filePath, JsonAddressBookManifest.toHash(digest));
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Reads the binary snapshot at {@code filePath}, which must exist.
+     */
+    static ReadOnlyAddressBook readBinaryFile(Path filePath) throws DataConversionException, IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return decode(in, filePath);
+        }
+    }
+
+    /**
+     * Similar to {@link #readBinaryFile(Path)}, but also passes all of the content of the file through
+     * {@code digest}.
+     */
+    static ReadOnlyAddressBook readBinaryFile(Path filePath, MessageDigest digest)
+            throws DataConversionException, IOException {
+        try (InputStream in = new DigestInputStream(Files.newInputStream(filePath), digest)) {
+            ReadOnlyAddressBook addressBook = decode(in, filePath);
+            // the offset table after the records still has to be hashed
+            in.transferTo(OutputStream.nullOutputStream());
+            return addressBook;
+        }
+    }
+
+    private static ReadOnlyAddressBook decode(InputStream in, Path filePath)
+            throws DataConversionException, IOException {
+        try {
+            return BinaryAddressBookCodec.read(in, Files.size(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the JSON data at {@code legacyFilePath}, if there is any, and saves it at {@code filePath}.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFrom(Path legacyFilePath, Path filePath)
+            throws DataConversionException {
+        if (legacyFilePath.equals(filePath) || !Files.exists(legacyFilePath)) {
+            return Optional.empty();
+        }
+
+        logger.info("Migrating " + legacyFilePath + " to binary file " + filePath);
+        Optional<ReadOnlyAddressBook> legacyAddressBook =
+                new JsonAddressBookStorage(legacyFilePath).readAddressBook(legacyFilePath);
+        if (legacyAddressBook.isPresent()) {
+            try {
+                saveAddressBook(legacyAddressBook.get(), filePath);
+            } catch (IOException ioe) {
+                logger.warning("Could not save migrated data to " + filePath + ": " + ioe);
+            }
+        }
+        return legacyAddressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is written to a temporary file first, so a failed save never corrupts the existing data.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        recordContentHash(filePath, null);
+        String hash = writeBinaryFile(addressBook, filePath);
+        recordContentHash(filePath, hash);
+    }
+
+    @Override
+    public Optional<String> getContentHash() {
+        return Optional.ofNullable(contentHash);
+    }
+
+    /**
+     * Records {@code contentHash} as the hash of the content of the data file, if {@code readOrSavedPath} is
+     * the data file of this storage rather than another file that it was asked to read or save.
+     */
+    void recordContentHash(Path readOrSavedPath, String contentHash) {
+        if (readOrSavedPath.equals(filePath)) {
+            this.contentHash = contentHash;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a binary snapshot at {@code filePath}, replacing any existing file atomically.
+     *
+     * @return the hash of the content written.
+     */
+    static String writeBinaryFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        MessageDigest digest = JsonAddressBookManifest.newDigest();
+        try {
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+                BinaryAddressBookCodec.write(addressBook, out);
+            }
+            FileUtil.moveAtomically(tempFile, filePath);
+            return JsonAddressBookManifest.toHash(digest);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The compression formats a data file can be stored in.
+ * Data is compressed and decompressed as a stream, so it is never held in memory uncompressed as a whole.
+ */
+public enum CompressionFormat {
+    NONE,
+    GZIP,
+    /** Deflate data in the zlib wrapper. */
+    DEFLATE;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int GZIP_MAGIC = 0x1f8b;
+    private static final int ZLIB_DEFLATE_METHOD = 8;
+
+    /**
+     * Returns the compression format of the data at the start of {@code in}, without consuming any of it.
+     * Data that is not recognised as compressed is assumed not to be.
+     *
+     * @param in must support {@link InputStream#mark(int)}.
+     */
+    public static CompressionFormat detect(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first < 0 || second < 0) {
+            return NONE;
+        }
+
+        int header = (first << 8) | second;
+        if (header == GZIP_MAGIC) {
+            return GZIP;
+        }
+        // a zlib header is a method byte and a flag byte that together are a multiple of 31
+        if ((first & 0x0f) == ZLIB_DEFLATE_METHOD && (first >> 4) <= 7 && header % 31 == 0) {
+            return DEFLATE;
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns a stream of the data in {@code in} decompressed from this format.
+     */
+    public InputStream decode(InputStream in) throws IOException {
+        switch (this) {
+        case GZIP:
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        case DEFLATE:
+            return new InflaterInputStream(in, new Inflater(), BUFFER_SIZE);
+        default:
+            return in;
+        }
+    }
+
+    /**
+     * Returns a stream that writes the data written to it to {@code out}, compressed in this format.
+     * The returned stream must be closed to finish the compressed data.
+     */
+    public OutputStream encode(OutputStream out) throws IOException {
+        switch (this) {
+        case GZIP:
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        case DEFLATE:
+            return new DeflaterOutputStream(out, new Deflater(), BUFFER_SIZE);
+        default:
+            return out;
+        }
+    }
+
+    /**
+     * An input stream that counts the bytes read through it.
+     */
+    static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /**
+     * An output stream that counts the bytes written through it.
+     */
+    static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // FilterOutputStream would write the bytes one at a time
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
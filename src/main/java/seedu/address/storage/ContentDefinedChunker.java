@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Splits a stream of bytes into chunks whose boundaries depend on the content around them, rather than on
+ * their position. An insertion or deletion in the stream then only changes the chunks around it, and the chunks
+ * after it are cut the same way as before, so a backup of an edited file shares most of its chunks.
+ * <p>
+ * A boundary is cut where a gear hash of the preceding 64 bytes has its top bits all zero, which happens
+ * once every {@link #AVERAGE_CHUNK_SIZE} bytes on average, within the limits of the minimum and maximum sizes.
+ */
+class ContentDefinedChunker {
+
+    static final int MIN_CHUNK_SIZE = 2 << 10;
+    static final int AVERAGE_CHUNK_SIZE = 8 << 10;
+    static final int MAX_CHUNK_SIZE = 64 << 10;
+
+    /** The top 13 bits, so that a boundary is cut after 2^13 bytes, 8KB, on average. */
+    private static final long BOUNDARY_MASK = -1L << (Long.SIZE - Integer.numberOfTrailingZeros(AVERAGE_CHUNK_SIZE));
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Random values for each byte value, fixed so that the same content is always cut the same way. */
+    private static final long[] GEAR = new SplittableRandom(0x41423343444347L).longs(256).toArray();
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private final byte[] chunk = new byte[MAX_CHUNK_SIZE];
+
+    ContentDefinedChunker(InputStream in) {
+        this.in = requireNonNull(in);
+    }
+
+    /**
+     * Returns the next chunk of the stream, or null at the end of the stream.
+     */
+    byte[] nextChunk() throws IOException {
+        int length = 0;
+        long hash = 0;
+        while (length < MAX_CHUNK_SIZE) {
+            if (position == limit && !fill()) {
+                break;
+            }
+            byte b = buffer[position++];
+            chunk[length++] = b;
+            // shifting out one bit per byte makes the top bits depend on the last 64 bytes only
+            hash = (hash << 1) + GEAR[b & 0xff];
+            if (length >= MIN_CHUNK_SIZE && (hash & BOUNDARY_MASK) == 0) {
+                break;
+            }
+        }
+        return length == 0 ? null : Arrays.copyOf(chunk, length);
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+}
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads persons from a CSV file exported by another application.
+ * The first line of the file names the columns: {@code name}, {@code phone}, {@code email}, {@code address}
+ * and optionally {@code tags}, in any order and case. Other columns are ignored.
+ * Tags in the {@code tags} column are separated by spaces or semicolons.
+ * Fields containing commas can be enclosed in double quotes, with double quotes in them written twice.
+ * Since no field can contain a line break, every line after the first is one row.
+ * <p>
+ * The file is memory-mapped, and large files are split at line boundaries and read in parallel.
+ */
+public class CsvPersonReader {
+
+    public static final String MESSAGE_FILE_TOO_LARGE = "CSV files larger than 2GB cannot be imported";
+    public static final String MESSAGE_EMPTY_FILE = "The CSV file is empty";
+    public static final String MESSAGE_MISSING_COLUMN = "The first line of the CSV file has no %s column";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed";
+
+    static final String COLUMN_NAME = "name";
+    static final String COLUMN_PHONE = "phone";
+    static final String COLUMN_EMAIL = "email";
+    static final String COLUMN_ADDRESS = "address";
+    static final String COLUMN_TAGS = "tags";
+
+    /** The least number of bytes worth reading in a separate task. */
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+    private static final byte[] UTF8_BOM = {(byte) 0xef, (byte) 0xbb, (byte) 0xbf};
+
+    private CsvPersonReader() {}
+
+    /**
+     * Reads the persons in the CSV file at {@code filePath}.
+     * Rows that cannot be read as persons are reported in the result rather than failing the whole file.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws DataConversionException if the file is empty or its first line lacks a required column.
+     */
+    public static PersonImportResult read(Path filePath) throws IOException, DataConversionException {
+        requireNonNull(filePath);
+
+        ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_FILE_TOO_LARGE));
+            }
+            // the mapping stays valid after the channel is closed
+            content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return read(content);
+    }
+
+    /**
+     * Reads the persons in {@code content}, the bytes of a CSV file.
+     */
+    static PersonImportResult read(ByteBuffer content) throws DataConversionException {
+        int start = startsWith(content, UTF8_BOM) ? UTF8_BOM.length : 0;
+        int headerEnd = nextLineStart(content, start);
+        if (headerEnd == start) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_EMPTY_FILE));
+        }
+        Columns columns;
+        try {
+            columns = Columns.of(splitFields(decode(content, start, headerEnd).toString().trim()));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+
+        int[] boundaries = splitAtLines(content, headerEnd);
+        int chunkCount = boundaries.length - 1;
+        ChunkResult[] chunks = new ChunkResult[chunkCount];
+        IntStream chunkIndices = IntStream.range(0, chunkCount);
+        if (chunkCount > 1) {
+            chunkIndices = chunkIndices.parallel();
+        }
+        chunkIndices.forEach(i -> chunks[i] = readChunk(content, boundaries[i], boundaries[i + 1], columns));
+
+        // line numbers are only known once the lines in the earlier chunks are counted
+        List<PersonImportResult.Row> rows = new ArrayList<>();
+        List<PersonImportResult.RowError> errors = new ArrayList<>();
+        int firstLine = 2;
+        for (ChunkResult chunk : chunks) {
+            for (int i = 0; i < chunk.persons.size(); i++) {
+                rows.add(new PersonImportResult.Row(firstLine + chunk.personLines.get(i), chunk.persons.get(i)));
+            }
+            for (int i = 0; i < chunk.errorLines.size(); i++) {
+                errors.add(new PersonImportResult.RowError(firstLine + chunk.errorLines.get(i),
+                        chunk.errorMessages.get(i)));
+            }
+            firstLine += chunk.lineCount;
+        }
+        return new PersonImportResult(rows, errors);
+    }
+
+    /**
+     * Returns the positions that split the rows from {@code start} to the end of {@code content} into chunks
+     * of about equal size, each starting at the start of a line. The first position is {@code start},
+     * and the last is the end of {@code content}.
+     */
+    private static int[] splitAtLines(ByteBuffer content, int start) {
+        int size = content.limit() - start;
+        int chunkCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), size / MIN_CHUNK_SIZE));
+        int[] boundaries = new int[chunkCount + 1];
+        boundaries[0] = start;
+        for (int i = 1; i < chunkCount; i++) {
+            int position = Math.max(boundaries[i - 1], start + (int) ((long) size * i / chunkCount));
+            boundaries[i] = position == start ? start : nextLineStart(content, position - 1);
+        }
+        boundaries[chunkCount] = content.limit();
+        return boundaries;
+    }
+
+    /**
+     * Reads the rows in {@code content} from {@code start} to {@code end}, which are both at the start of a line.
+     */
+    private static ChunkResult readChunk(ByteBuffer content, int start, int end, Columns columns) {
+        ChunkResult result = new ChunkResult();
+        CharBuffer chars = decode(content, start, end);
+        int lineStart = 0;
+        int length = chars.length();
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && chars.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            String line = chars.subSequence(lineStart, lineEnd).toString();
+            if (!line.trim().isEmpty()) {
+                try {
+                    result.persons.add(columns.toPerson(splitFields(line)));
+                    result.personLines.add(result.lineCount);
+                } catch (IllegalValueException ive) {
+                    result.errorLines.add(result.lineCount);
+                    result.errorMessages.add(ive.getMessage());
+                }
+            }
+            result.lineCount++;
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+
+    /**
+     * Splits a line of a CSV file into its fields.
+     *
+     * @throws IllegalValueException if a quoted field is not closed.
+     */
+    static List<String> splitFields(String line) throws IllegalValueException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = line.endsWith("\r") ? line.length() - 1 : line.length();
+        boolean isQuoted = false;
+        for (int i = 0; i < length; i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < length && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the position after the end of the line that {@code position} is in,
+     * or the end of {@code content} if that is the last line.
+     */
+    private static int nextLineStart(ByteBuffer content, int position) {
+        int limit = content.limit();
+        for (int i = position; i < limit; i++) {
+            if (content.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+
+    private static boolean startsWith(ByteBuffer content, byte[] prefix) {
+        if (content.limit() < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (content.get(i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CharBuffer decode(ByteBuffer content, int start, int end) {
+        ByteBuffer range = content.duplicate();
+        range.position(start);
+        range.limit(end);
+        return StandardCharsets.UTF_8.decode(range);
+    }
+
+    /**
+     * The positions of the columns of a CSV file.
+     */
+    private static class Columns {
+        private final int name;
+        private final int phone;
+        private final int email;
+        private final int address;
+        private final int tags;
+
+        private Columns(int name, int phone, int email, int address, int tags) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.address = address;
+            this.tags = tags;
+        }
+
+        /**
+         * Returns the positions of the columns named in {@code header}.
+         *
+         * @throws IllegalValueException if a required column is not named.
+         */
+        static Columns of(List<String> header) throws IllegalValueException {
+            List<String> names = new ArrayList<>();
+            for (String column : header) {
+                names.add(column.trim().toLowerCase(Locale.ROOT));
+            }
+            return new Columns(require(names, COLUMN_NAME), require(names, COLUMN_PHONE),
+                    require(names, COLUMN_EMAIL), require(names, COLUMN_ADDRESS), names.indexOf(COLUMN_TAGS));
+        }
+
+        private static int require(List<String> names, String column) throws IllegalValueException {
+            int index = names.indexOf(column);
+            if (index < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+            return index;
+        }
+
+        Person toPerson(List<String> fields) throws IllegalValueException {
+            return ImportedPerson.toPerson(get(fields, name), get(fields, phone), get(fields, email),
+                    get(fields, address), splitTags(get(fields, tags)));
+        }
+
+        private static String get(List<String> fields, int column) {
+            return column >= 0 && column < fields.size() ? fields.get(column) : null;
+        }
+
+        private static List<String> splitTags(String tags) {
+            if (tags == null || tags.trim().isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<String> tagNames = new ArrayList<>();
+            for (String tagName : tags.trim().split("[\\s;]+")) {
+                if (!tagName.isEmpty()) {
+                    tagNames.add(tagName);
+                }
+            }
+            return tagNames;
+        }
+    }
+
+    /**
+     * The persons read from one chunk of a CSV file, with the errors in the other rows.
+     * Lines are counted from 0 at the start of the chunk.
+     */
+    private static class ChunkResult {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Integer> personLines = new ArrayList<>();
+        private final List<Integer> errorLines = new ArrayList<>();
+        private final List<String> errorMessages = new ArrayList<>();
+        private int lineCount;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons to a CSV file that spreadsheets and other applications can read,
+ * in the format read by {@link CsvPersonReader}.
+ * Each person is written as a row as soon as it is reached, so the file is never built in memory.
+ */
+public class CsvPersonWriter {
+
+    private static final String LINE_BREAK = "\r\n";
+
+    private CsvPersonWriter() {}
+
+    /**
+     * Writes {@code persons} to {@code out} as CSV data, after a line naming the columns.
+     *
+     * @return the number of persons written.
+     */
+    public static int write(Iterable<Person> persons, Writer out) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(out);
+        out.write(String.join(",", CsvPersonReader.COLUMN_NAME, CsvPersonReader.COLUMN_PHONE,
+                CsvPersonReader.COLUMN_EMAIL, CsvPersonReader.COLUMN_ADDRESS, CsvPersonReader.COLUMN_TAGS));
+        out.write(LINE_BREAK);
+
+        int count = 0;
+        for (Person person : persons) {
+            writeField(out, person.getName().fullName);
+            out.write(',');
+            writeField(out, person.getPhone().value);
+            out.write(',');
+            writeField(out, person.getEmail().value);
+            out.write(',');
+            writeField(out, person.getAddress().value);
+            out.write(',');
+            for (Iterator<Tag> tags = person.getTags().iterator(); tags.hasNext();) {
+                // tag names are alphanumeric, so they never need quoting
+                out.write(tags.next().tagName);
+                if (tags.hasNext()) {
+                    out.write(' ');
+                }
+            }
+            out.write(LINE_BREAK);
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    /**
+     * Writes {@code value}, enclosed in double quotes if it contains a comma, a double quote or a line break.
+     */
+    private static void writeField(Writer out, String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches a data file for changes, such as those made by sync tools, and tells a listener about them
+ * on a background thread once the file has stopped changing.
+ * Changes made by this app are reported too, so the listener should ignore changes it already has,
+ * such as by checking {@link Storage#isAddressBookFileAsSaved()}.
+ */
+public class DataFileWatcher implements Closeable {
+
+    /** How long the file must stay unchanged before a change is reported, as other programs may write in steps. */
+    private static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private final Path filePath;
+    private final Runnable listener;
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code DataFileWatcher} that calls {@code listener} when the file at {@code filePath} changes.
+     */
+    public DataFileWatcher(Path filePath, Runnable listener) {
+        requireNonNull(filePath);
+        requireNonNull(listener);
+        this.filePath = filePath.toAbsolutePath();
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching the file, creating its directory if it does not exist yet.
+     */
+    public void start() throws IOException {
+        Path directory = filePath.getParent();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        // files saved atomically are moved into place, which is seen as the creation of the file
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread thread = new Thread(this::watch, "data-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching data file " + filePath + " for changes");
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                boolean isChanged = isFileChanged(watchService.take());
+                while (isChanged) {
+                    WatchKey key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                    if (key == null) {
+                        notifyListener();
+                        isChanged = false;
+                    } else {
+                        isFileChanged(key);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching data file " + filePath);
+        }
+    }
+
+    /**
+     * Returns true if the events of {@code key} include a change to the file, and resets the key.
+     */
+    private boolean isFileChanged(WatchKey key) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // events may have been lost when they overflow, so the file may have changed
+            isChanged |= event.kind() == OVERFLOW || filePath.getFileName().equals(event.context());
+        }
+        key.reset();
+        return isChanged;
+    }
+
+    private void notifyListener() {
+        try {
+            listener.run();
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle a change to data file " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Stops watching the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Identifies a version of a file by its size and last modified time,
+     * without reading it.
+     */
+    public static class FileStamp {
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        private FileStamp(long size, FileTime lastModifiedTime) {
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        /**
+         * Returns the stamp of the file at {@code filePath}, which must exist.
+         */
+        public static FileStamp of(Path filePath) throws IOException {
+            return new FileStamp(Files.size(filePath), Files.getLastModifiedTime(filePath));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof FileStamp
+                    && size == ((FileStamp) other).size
+                    && lastModifiedTime.equals(((FileStamp) other).lastModifiedTime));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModifiedTime);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts the fields of a person read from a file of another application into the model's {@code Person}.
+ */
+class ImportedPerson {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+
+    private ImportedPerson() {}
+
+    /**
+     * Returns the {@code Person} with the given fields, which are trimmed first.
+     *
+     * @throws IllegalValueException if any of the fields is missing or invalid.
+     */
+    public static Person toPerson(String name, String phone, String email, String address,
+            Collection<String> tagNames) throws IllegalValueException {
+        String trimmedName = require(name, Name.class);
+        if (!Name.isValidName(trimmedName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String trimmedPhone = require(phone, Phone.class);
+        if (!Phone.isValidPhone(trimmedPhone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String trimmedEmail = require(email, Email.class);
+        if (!Email.isValidEmail(trimmedEmail)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String trimmedAddress = require(address, Address.class);
+        if (!Address.isValidAddress(trimmedAddress)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            String trimmedTagName = tagName.trim();
+            if (!Tag.isValidTagName(trimmedTagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(Tag.ofTrusted(trimmedTagName));
+        }
+
+        // the fields have all been validated above
+        return new Person(Name.ofTrusted(trimmedName), Phone.ofTrusted(trimmedPhone), Email.ofTrusted(trimmedEmail),
+                Address.ofTrusted(trimmedAddress), tags);
+    }
+
+    private static String require(String field, Class<?> fieldClass) throws IllegalValueException {
+        if (field == null || field.trim().isEmpty()) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldClass.getSimpleName()));
+        }
+        return field.trim();
+    }
+}
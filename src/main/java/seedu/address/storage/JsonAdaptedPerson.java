@@ -106,4 +106,17 @@ class JsonAdaptedPerson {
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object
+     * without validating it. Only for persons read back unchanged from data saved by this app.
+     */
+    public Person toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        return new Person(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email),
+                Address.ofTrusted(address), modelTags);
+    }
+
 }
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a json address book data file, which records the hash of the content last saved to it.
+ * A data file whose content still has that hash has not been changed since, so its data is known to be valid.
+ */
+class JsonAddressBookManifest {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final int schemaVersion;
+    private final String contentHash;
+
+    /**
+     * Constructs a {@code JsonAddressBookManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAddressBookManifest(@JsonProperty("schemaVersion") int schemaVersion,
+            @JsonProperty("contentHash") String contentHash) {
+        this.schemaVersion = schemaVersion;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Creates the manifest of a data file whose content has the hash {@code contentHash},
+     * in the current schema version.
+     */
+    public static JsonAddressBookManifest of(String contentHash) {
+        return new JsonAddressBookManifest(JsonSerializableAddressBook.SCHEMA_VERSION, contentHash);
+    }
+
+    /**
+     * Returns true if this is the manifest of a data file whose content has the hash {@code contentHash},
+     * saved in the current schema version.
+     */
+    public boolean matches(String contentHash) {
+        return schemaVersion == JsonSerializableAddressBook.SCHEMA_VERSION && contentHash.equals(this.contentHash);
+    }
+
+    /**
+     * Returns a new digest to hash the content of a data file with, as it is read or written.
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Returns the hash of the content that has been passed through {@code digest}.
+     */
+    static String toHash(MessageDigest digest) {
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    static String hash(byte[] content) {
+        MessageDigest digest = newDigest();
+        digest.update(content);
+        return toHash(digest);
+    }
+}
@@ -2,9 +2,18 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,18 +22,41 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * If the data file does not exist yet but a binary data file of the same name does, the binary data is migrated.
+ * A manifest next to the data file records the hash of the content last saved, so that data read back unchanged
+ * is not validated again. Data files edited since they were saved are fully validated.
+ * Data files can be saved compressed, and compressed files are detected and read regardless of this setting.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MANIFEST_FILE_EXTENSION = ".manifest";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final double BYTES_PER_MEGABYTE = 1 << 20;
+    private static final double NANOS_PER_SECOND = 1e9;
+
     private Path filePath;
+    private final CompressionFormat compression;
+    /** The hash of the content of the data file as it was last read or saved, or null if it is not known. */
+    private volatile String contentHash;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, CompressionFormat.NONE);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves data files compressed in {@code compression}.
+     */
+    public JsonAddressBookStorage(Path filePath, CompressionFormat compression) {
+        requireNonNull(compression);
         this.filePath = filePath;
+        this.compression = compression;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +77,142 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        // forgotten until the read succeeds, as the data file has changed if it cannot be read
+        recordContentHash(filePath, null);
+        if (!Files.exists(filePath)) {
+            return migrateFrom(AddressBookFileFormat.BINARY.siblingOf(filePath), filePath);
+        }
+
+        try {
+            if (AddressBookFileFormat.detect(filePath) == AddressBookFileFormat.BINARY) {
+                MessageDigest binaryDigest = JsonAddressBookManifest.newDigest();
+                ReadOnlyAddressBook addressBook = BinaryAddressBookStorage.readBinaryFile(filePath, binaryDigest);
+                recordContentHash(filePath, JsonAddressBookManifest.toHash(binaryDigest));
+                return Optional.of(addressBook);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        MessageDigest digest = JsonAddressBookManifest.newDigest();
+        JsonSerializableAddressBook jsonAddressBook;
+        long startTime = System.nanoTime();
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            CompressionFormat format = CompressionFormat.detect(file);
+            CompressionFormat.CountingInputStream raw =
+                    new CompressionFormat.CountingInputStream(new DigestInputStream(file, digest));
+            CompressionFormat.CountingInputStream decoded =
+                    new CompressionFormat.CountingInputStream(format.decode(raw));
+            jsonAddressBook = JsonUtil.readJsonStream(decoded, JsonSerializableAddressBook.class);
+            // the rest of the file still has to be hashed
+            decoded.transferTo(OutputStream.nullOutputStream());
+            raw.transferTo(OutputStream.nullOutputStream());
+            logTransfer("Read", filePath, format, decoded.getCount(), raw.getCount(), startTime);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        String hash = JsonAddressBookManifest.toHash(digest);
+        if (isUnchangedSinceSaved(filePath, hash)) {
+            logger.fine("Data file " + filePath + " is unchanged since it was saved, skipping validation");
+            ReadOnlyAddressBook addressBook = jsonAddressBook.toTrustedModelType();
+            recordContentHash(filePath, hash);
+            return Optional.of(addressBook);
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ReadOnlyAddressBook addressBook = jsonAddressBook.toModelType();
+            recordContentHash(filePath, hash);
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads the persons in the data file at {@code filePath} one at a time, giving each to {@code handler},
+     * so that json data files are never held in memory as a whole. Compressed and binary data files are read too.
+     *
+     * @return false if there is no data file.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static boolean readPersons(Path filePath, Consumer<Person> handler) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(handler);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try {
+            if (AddressBookFileFormat.detect(filePath) == AddressBookFileFormat.BINARY) {
+                BinaryAddressBookStorage.readBinaryFile(filePath).getPersonList().forEach(handler);
+                return true;
+            }
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            InputStream decoded = CompressionFormat.detect(file).decode(file);
+            JsonUtil.readJsonArrayStream(decoded, "persons", JsonAdaptedPerson.class,
+                    person -> handler.accept(person.toModelType()));
+            return true;
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Error reading persons from " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the path of the manifest of the data file at {@code filePath}.
+     */
+    public static Path getManifestPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + MANIFEST_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if the manifest of the data file at {@code filePath} shows that its content,
+     * which has the hash {@code contentHash}, is what it was last saved with.
+     */
+    private boolean isUnchangedSinceSaved(Path filePath, String contentHash) {
+        try {
+            Optional<JsonAddressBookManifest> manifest = JsonUtil.readJsonFile(
+                    getManifestPath(filePath), JsonAddressBookManifest.class);
+            return manifest.isPresent() && manifest.get().matches(contentHash);
+        } catch (DataConversionException e) {
+            // a broken manifest only means that the data has to be validated
+            logger.info("Manifest of " + filePath + " could not be read: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads the binary data at {@code legacyFilePath}, if there is any, and saves it at {@code filePath}.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFrom(Path legacyFilePath, Path filePath)
+            throws DataConversionException {
+        if (legacyFilePath.equals(filePath) || !Files.exists(legacyFilePath)) {
+            return Optional.empty();
+        }
+
+        logger.info("Migrating " + legacyFilePath + " to json file " + filePath);
+        ReadOnlyAddressBook legacyAddressBook;
+        try {
+            legacyAddressBook = BinaryAddressBookStorage.readBinaryFile(legacyFilePath);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+        try {
+            saveAddressBook(legacyAddressBook, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Could not save migrated data to " + filePath + ": " + ioe);
+        }
+        return Optional.of(legacyAddressBook);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +227,56 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        recordContentHash(filePath, null);
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        MessageDigest digest = JsonAddressBookManifest.newDigest();
+        long startTime = System.nanoTime();
+        CompressionFormat.CountingOutputStream raw;
+        CompressionFormat.CountingOutputStream encoded;
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE)) {
+            raw = new CompressionFormat.CountingOutputStream(new DigestOutputStream(file, digest));
+            encoded = new CompressionFormat.CountingOutputStream(compression.encode(raw));
+            JsonUtil.writeJsonStream(new JsonSerializableAddressBook(addressBook), encoded);
+            // finishes the compressed data
+            encoded.close();
+        }
+        logTransfer("Saved", filePath, compression, encoded.getCount(), raw.getCount(), startTime);
+
+        // written after the data, so that an interrupted save leaves a manifest that does not match
+        String hash = JsonAddressBookManifest.toHash(digest);
+        JsonUtil.saveJsonFile(JsonAddressBookManifest.of(hash), getManifestPath(filePath));
+        recordContentHash(filePath, hash);
+    }
+
+    @Override
+    public Optional<String> getContentHash() {
+        return Optional.ofNullable(contentHash);
+    }
+
+    /**
+     * Records {@code contentHash} as the hash of the content of the data file, if {@code readOrSavedPath} is
+     * the data file of this storage rather than another file that it was asked to read or save.
+     */
+    private void recordContentHash(Path readOrSavedPath, String contentHash) {
+        if (readOrSavedPath.equals(filePath)) {
+            this.contentHash = contentHash;
+        }
+    }
+
+    /**
+     * Logs the size of the data transferred to or from the file at {@code filePath}, how well it was compressed
+     * in {@code format} and how fast it was transferred since {@code startTime}.
+     */
+    private static void logTransfer(String action, Path filePath, CompressionFormat format, long dataSize,
+            long fileSize, long startTime) {
+        double seconds = Math.max(System.nanoTime() - startTime, 1) / NANOS_PER_SECOND;
+        double throughput = dataSize / BYTES_PER_MEGABYTE / seconds;
+        if (format == CompressionFormat.NONE) {
+            logger.fine(String.format("%s %s: %d bytes at %.1f MB/s", action, filePath, dataSize, throughput));
+            return;
+        }
+        logger.info(String.format("%s %s: %d bytes compressed to %d bytes (ratio %.2f) at %.1f MB/s",
+                action, filePath, dataSize, fileSize, (double) dataSize / Math.max(fileSize, 1), throughput));
     }
 
 }
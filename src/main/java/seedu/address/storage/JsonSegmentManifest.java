@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a segmented address book, which lists its segment files in order.
+ */
+class JsonSegmentManifest {
+
+    private final int nextSegmentId;
+    private final List<String> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given segment files.
+     *
+     * @param nextSegmentId the id to give the next segment that is written, which no existing segment has.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("nextSegmentId") int nextSegmentId,
+            @JsonProperty("segments") List<String> segments) {
+        this.nextSegmentId = nextSegmentId;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public int getNextSegmentId() {
+        return nextSegmentId;
+    }
+
+    public List<String> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,6 +15,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,6 +26,12 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** The version of the format of the saved address book, to be incremented on incompatible changes. */
+    public static final int SCHEMA_VERSION = 1;
+
+    /** The number of consecutive persons that are converted together by one task. */
+    private static final int CHUNK_SIZE = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -42,19 +53,69 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Large address books are converted in chunks in parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated.
+     *     The exception is the one for the first offending person in the list.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+        Person[] converted = new Person[persons.size()];
+        int chunkCount = (converted.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IllegalValueException[] chunkErrors = new IllegalValueException[chunkCount];
+        IntStream chunks = IntStream.range(0, chunkCount);
+        if (chunkCount > 1) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> chunkErrors[chunk] = convertChunk(chunk, converted));
+
+        // checked in list order, so that the same error is reported as when converting one person at a time
+        Set<Name> names = new HashSet<>();
+        for (int i = 0; i < converted.length; i++) {
+            Person person = converted[i];
+            if (person == null) {
+                // a chunk stops converting at its first invalid person
+                throw chunkErrors[i / CHUNK_SIZE];
+            }
+            if (!names.add(person.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
         }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(converted));
         return addressBook;
     }
 
+    /**
+     * Converts this address book into the model's {@code AddressBook} object without validating its persons
+     * or checking them for duplicates. Only for address books read back unchanged from data saved by this app.
+     */
+    public AddressBook toTrustedModelType() {
+        List<Person> converted = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            converted.add(person.toTrustedModelType());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setTrustedPersons(converted);
+        return addressBook;
+    }
+
+    /**
+     * Converts the persons in the given {@code chunk} into {@code converted}, stopping at the first invalid person.
+     *
+     * @return the exception for the first invalid person, or null if all of them are valid.
+     */
+    private IllegalValueException convertChunk(int chunk, Person[] converted) {
+        int end = Math.min((chunk + 1) * CHUNK_SIZE, converted.length);
+        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+            try {
+                converted[i] = persons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                return ive;
+            }
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A read-only address book backed by a memory-mapped binary snapshot.
+ * Persons are only decoded when they are accessed, so opening a snapshot takes roughly the same time
+ * regardless of how many persons it contains.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook {
+
+    private final ByteBuffer buffer;
+    private final BinaryAddressBookCodec.Header header;
+    private final int offsetTablePosition;
+
+    /**
+     * Persons decoded so far. Persons are immutable, so a person that is decoded twice by concurrent readers
+     * is harmless.
+     */
+    private final Person[] persons;
+    private final List<Person> personList = new LazyPersonList();
+
+    private MappedAddressBook(ByteBuffer buffer, BinaryAddressBookCodec.Header header) throws IllegalValueException {
+        this.buffer = buffer;
+        this.header = header;
+
+        // the person count comes from the file, so it is checked against the offset table before it sizes anything
+        int offsetTableSize = BinaryAddressBookCodec.OFFSET_SIZE;
+        offsetTablePosition = buffer.limit() < offsetTableSize ? -1 : buffer.getInt(buffer.limit() - offsetTableSize);
+        long expectedEnd = offsetTablePosition + (long) offsetTableSize * ((long) header.personCount + 1);
+        if (offsetTablePosition < 0 || header.personCount < 0 || expectedEnd != buffer.limit()) {
+            throw new IllegalValueException(BinaryAddressBookCodec.MESSAGE_CORRUPTED_OFFSET_TABLE);
+        }
+        this.persons = new Person[header.personCount];
+    }
+
+    /**
+     * Maps the binary snapshot at {@code filePath}, which must exist.
+     * Returns an empty {@code Optional} if the snapshot cannot be mapped because it has no offset table
+     * or is too large, in which case it has to be read sequentially instead.
+     *
+     * @throws DataConversionException if the file is not a valid binary snapshot.
+     */
+    public static Optional<MappedAddressBook> map(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        try {
+            BinaryAddressBookCodec.Header header;
+            try (InputStream in = Files.newInputStream(filePath)) {
+                header = BinaryAddressBookCodec.readHeader(in, Files.size(filePath));
+            }
+            if (!header.hasOffsetTable()) {
+                return Optional.empty();
+            }
+
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    return Optional.empty();
+                }
+                // the mapping stays valid after the channel is closed
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                return Optional.of(new MappedAddressBook(buffer, header));
+            }
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the number of persons in the snapshot.
+     */
+    public int size() {
+        return persons.length;
+    }
+
+    /**
+     * Returns the person at {@code index}, decoding it if it has not been accessed before.
+     *
+     * @throws DataConversionException if the record of the person is corrupted or violates any data constraints.
+     */
+    public Person getPerson(int index) throws DataConversionException {
+        if (index < 0 || index >= persons.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + persons.length);
+        }
+
+        Person person = persons[index];
+        if (person == null) {
+            try {
+                person = decodePerson(index, new CRC32());
+            } catch (IllegalValueException ive) {
+                throw new DataConversionException(ive);
+            }
+            persons[index] = person;
+        }
+        return person;
+    }
+
+    /**
+     * Returns an address book with the first {@code count} persons of the snapshot,
+     * or all of them if there are fewer.
+     *
+     * @throws DataConversionException if any of those persons cannot be decoded.
+     */
+    public AddressBook readFirstPersons(int count) throws DataConversionException {
+        int end = Math.min(count, persons.length);
+        List<Person> firstPersons = new ArrayList<>(end);
+        for (int i = 0; i < end; i++) {
+            firstPersons.add(getPerson(i));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(firstPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataConversionException(dpe);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Decodes every person in the snapshot and returns them as an address book.
+     *
+     * @throws DataConversionException if any person cannot be decoded or the snapshot contains duplicate persons.
+     */
+    public AddressBook readAll() throws DataConversionException {
+        List<Person> allPersons = new ArrayList<>(persons.length);
+        BinaryAddressBookCodec.UniqueNames names = new BinaryAddressBookCodec.UniqueNames(persons.length);
+        CRC32 crc = new CRC32();
+        try {
+            for (int i = 0; i < persons.length; i++) {
+                Person person = persons[i];
+                if (person == null) {
+                    person = decodePerson(i, crc);
+                    persons[i] = person;
+                }
+                names.add(person);
+                allPersons.add(person);
+            }
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(allPersons);
+        return addressBook;
+    }
+
+    private Person decodePerson(int index, CRC32 crc) throws IllegalValueException {
+        // every read works on its own view of the mapping, so concurrent reads do not share a position
+        ByteBuffer record = buffer.duplicate();
+        try {
+            int offset = buffer.getInt(offsetTablePosition + index * BinaryAddressBookCodec.OFFSET_SIZE);
+            if (offset < 0 || offset >= offsetTablePosition) {
+                throw new IllegalValueException(BinaryAddressBookCodec.MESSAGE_CORRUPTED_OFFSET_TABLE);
+            }
+            record.position(offset);
+            int length = BinaryAddressBookCodec.readVarInt(record);
+            if (length < 0 || length > offsetTablePosition - record.position()) {
+                throw corrupted(index);
+            }
+            byte[] payload = new byte[length];
+            record.get(payload);
+            int checksum = record.getInt();
+            return BinaryAddressBookCodec.decodeRecord(payload, length, checksum, index, header, crc);
+        } catch (IOException | BufferUnderflowException e) {
+            throw corrupted(index);
+        }
+    }
+
+    private static IllegalValueException corrupted(int index) {
+        return new IllegalValueException(String.format(BinaryAddressBookCodec.MESSAGE_CORRUPTED_RECORD, index));
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the snapshot, which decodes each person when it is accessed.
+     *
+     * @throws IllegalStateException when a person that cannot be decoded is accessed.
+     */
+    @Override
+    public List<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public String toString() {
+        return persons.length + " persons (memory-mapped)";
+    }
+
+    /**
+     * The persons in the snapshot, which never changes.
+     */
+    private class LazyPersonList extends AbstractList<Person> {
+        @Override
+        public Person get(int index) {
+            try {
+                return getPerson(index);
+            } catch (DataConversionException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return persons.length;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code BinaryAddressBookStorage} that reads binary snapshots by memory-mapping them.
+ * The address book read is a {@link MappedAddressBook}, which only decodes persons when they are accessed.
+ * Snapshots that cannot be mapped and JSON data files are read in full, as {@code BinaryAddressBookStorage} does.
+ */
+public class MappedAddressBookStorage extends BinaryAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    public MappedAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            if (Files.exists(filePath) && AddressBookFileFormat.detect(filePath) == AddressBookFileFormat.BINARY) {
+                Optional<MappedAddressBook> mappedAddressBook = MappedAddressBook.map(filePath);
+                if (mappedAddressBook.isPresent()) {
+                    // hashing the file would read all of it, which mapping it is meant to avoid
+                    recordContentHash(filePath, null);
+                    return Optional.of(mappedAddressBook.get());
+                }
+                logger.info("Binary file " + filePath + " cannot be memory-mapped. Reading it in full instead");
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error memory-mapping binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+        return super.readAddressBook(filePath);
+    }
+}
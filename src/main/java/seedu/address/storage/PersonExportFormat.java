@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.StreamSupport;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * The file formats that persons can be exported to, each named by the extension of its files.
+ */
+public enum PersonExportFormat {
+    CSV(".csv") {
+        @Override
+        void write(Iterable<Person> persons, OutputStream out) throws IOException {
+            CsvPersonWriter.write(persons, newWriter(out));
+        }
+    },
+    /** The format of the JSON data file, so that exported persons can also be opened as an address book. */
+    JSON(".json") {
+        @Override
+        void write(Iterable<Person> persons, OutputStream out) throws IOException {
+            // persons are converted one at a time, as they are written
+            Iterable<JsonAdaptedPerson> adaptedPersons = () -> StreamSupport.stream(persons.spliterator(), false)
+                    .map(JsonAdaptedPerson::new).iterator();
+            JsonUtil.writeJsonArrayStream("persons", adaptedPersons, out);
+        }
+    },
+    VCARD(VCardPersonReader.FILE_EXTENSION) {
+        @Override
+        void write(Iterable<Person> persons, OutputStream out) throws IOException {
+            VCardPersonWriter.write(persons, newWriter(out));
+        }
+    };
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final String fileExtension;
+
+    PersonExportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format named by the extension of the file at {@code filePath}, ignoring case,
+     * or an empty {@code Optional} if persons cannot be exported to such files.
+     */
+    public static Optional<PersonExportFormat> of(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = String.valueOf(filePath.getFileName()).toLowerCase(Locale.ROOT);
+        for (PersonExportFormat format : values()) {
+            if (fileName.endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes {@code persons} to the file at {@code filePath} in this format, replacing it if it exists.
+     * The persons are written to a temporary file that then replaces the file, so a failed export
+     * never leaves a partly written file behind. Each export has a temporary file of its own,
+     * so exports to the same file at the same time do not delete each other's.
+     */
+    public void write(Iterable<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = Files.createTempFile(filePath.toAbsolutePath().getParent(), filePath.getFileName() + ".",
+                ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE)) {
+                write(persons, out);
+            }
+            FileUtil.moveAtomically(tempFile, filePath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} in this format, flushing but not closing it.
+     */
+    abstract void write(Iterable<Person> persons, OutputStream out) throws IOException;
+
+    private static BufferedWriter newWriter(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+}
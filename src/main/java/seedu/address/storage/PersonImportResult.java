@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The persons read from a file of another application, with the errors in the rows that could not be read.
+ */
+public class PersonImportResult {
+
+    private final List<Row> rows;
+    private final List<RowError> errors;
+
+    /**
+     * Creates a {@code PersonImportResult} with the rows read, in file order, and the errors in the other rows.
+     */
+    public PersonImportResult(List<Row> rows, List<RowError> errors) {
+        requireNonNull(rows);
+        requireNonNull(errors);
+        this.rows = Collections.unmodifiableList(rows);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the persons read, in file order.
+     */
+    public List<Person> getPersons() {
+        return rows.stream().map(Row::getPerson).collect(Collectors.toList());
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * A person read from a row of a file.
+     */
+    public static class Row {
+        private final int line;
+        private final Person person;
+
+        /**
+         * Creates a {@code Row} for the person read from the row starting at the given line, counted from 1.
+         */
+        public Row(int line, Person person) {
+            requireNonNull(person);
+            this.line = line;
+            this.person = person;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+    }
+
+    /**
+     * The reason a row of a file could not be read as a person.
+     */
+    public static class RowError {
+        private final int line;
+        private final String message;
+
+        /**
+         * Creates a {@code RowError} for the row starting at the given line, counted from 1.
+         */
+        public RowError(int line, String message) {
+            requireNonNull(message);
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof RowError // instanceof handles nulls
+                    && line == ((RowError) other).line
+                    && message.equals(((RowError) other).message));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * line + message.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + line + ": " + message;
+        }
+    }
+}
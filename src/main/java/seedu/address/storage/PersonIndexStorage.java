@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.PersonIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access a {@code PersonIndex} saved in a sidecar file next to the address book data file.
+ * The index refers to persons by their position in the data file, and is stamped with the hash of the content
+ * of the data file it was saved for, which the {@code AddressBookStorage} computes as it reads or saves the file.
+ * An index whose stamp does not match the content the persons were read from is stale and is not read.
+ */
+public class PersonIndexStorage {
+
+    public static final String FILE_EXTENSION = ".idx";
+
+    private static final Logger logger = LogsCenter.getLogger(PersonIndexStorage.class);
+
+    private static final byte[] MAGIC = {'A', 'B', '3', 'I'};
+    private static final int VERSION = 4;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path dataFilePath;
+    private final Path filePath;
+
+    /**
+     * Creates a {@code PersonIndexStorage} for the index of the address book data file at {@code dataFilePath}.
+     */
+    public PersonIndexStorage(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        this.dataFilePath = dataFilePath;
+        this.filePath = dataFilePath.resolveSibling(dataFilePath.getFileName() + FILE_EXTENSION);
+    }
+
+    public Path getPersonIndexFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the saved index of {@code persons}, which must be the persons read from the data file,
+     * in the same order, when its content had the hash {@code contentHash}.
+     * Returns an empty {@code Optional} if there is no index, or if it is stale or corrupted.
+     */
+    public Optional<PersonIndex> readPersonIndex(List<Person> persons, String contentHash) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(contentHash);
+
+        if (!Files.exists(filePath) || !Files.exists(dataFilePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC) || BinaryAddressBookCodec.readVarInt(in) != VERSION) {
+                logger.info("Index file " + filePath + " is not in the correct format");
+                return Optional.empty();
+            }
+            if (!BinaryAddressBookCodec.readString(in).equals(contentHash)
+                    || BinaryAddressBookCodec.readVarInt(in) != persons.size()) {
+                logger.info("Index file " + filePath + " is stale");
+                return Optional.empty();
+            }
+
+            PersonIndex index = new PersonIndex();
+            readSection(in, persons, data -> new Tag(BinaryAddressBookCodec.readString(data)), (tag, person) -> {
+                // an index that lists a person under a tag it does not have cannot be trusted at all
+                if (!person.getTags().contains(tag)) {
+                    throw new IllegalArgumentException("Person " + person.getName() + " does not have tag " + tag);
+                }
+                index.putTag(tag, person);
+            });
+            return Optional.of(index);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | IOException e) {
+            // a corrupted index is only a missed optimisation, as it can always be rebuilt
+            logger.info("Index file " + filePath + " could not be read: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Saves {@code index}, which must be the index of {@code persons}, the persons just saved to the data file
+     * or read from it, when its content had the hash {@code contentHash}.
+     * Nothing is saved if there is no data file.
+     */
+    public void savePersonIndex(PersonIndex index, List<Person> persons, String contentHash) throws IOException {
+        requireNonNull(index);
+        requireNonNull(persons);
+        requireNonNull(contentHash);
+
+        if (!Files.exists(dataFilePath)) {
+            return;
+        }
+
+        Map<Person, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFile)) {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+            data.write(MAGIC);
+            BinaryAddressBookCodec.writeVarInt(data, VERSION);
+            BinaryAddressBookCodec.writeString(data, contentHash);
+            BinaryAddressBookCodec.writeVarInt(data, persons.size());
+            writeSection(data, index.getTags(), index::getPersonsWithTag, tag -> tag.tagName, positions);
+            data.flush();
+        }
+        FileUtil.moveAtomically(tempFile, filePath);
+    }
+
+    /**
+     * Writes the keys of one kind in the index, each followed by the ascending positions of its persons.
+     */
+    private static <K> void writeSection(DataOutputStream data, Set<K> keys,
+            Function<K, Set<Person>> personsOf, Function<K, String> nameOf,
+            Map<Person, Integer> positions) throws IOException {
+        BinaryAddressBookCodec.writeVarInt(data, keys.size());
+        for (K key : keys) {
+            Set<Person> persons = personsOf.apply(key);
+            int[] keyPositions = new int[persons.size()];
+            int count = 0;
+            for (Person person : persons) {
+                Integer position = positions.get(person);
+                if (position == null) {
+                    throw new IllegalArgumentException("The index does not match the persons saved");
+                }
+                keyPositions[count++] = position;
+            }
+            Arrays.sort(keyPositions);
+
+            BinaryAddressBookCodec.writeString(data, nameOf.apply(key));
+            BinaryAddressBookCodec.writeVarInt(data, keyPositions.length);
+            int previous = 0;
+            for (int position : keyPositions) {
+                // positions are ascending, so the gaps between them are small and encode compactly
+                BinaryAddressBookCodec.writeVarInt(data, position - previous);
+                previous = position;
+            }
+        }
+    }
+
+    private static <K> void readSection(DataInputStream data, List<Person> persons, KeyReader<K> keyReader,
+            BiConsumer<K, Person> put) throws IOException {
+        int keyCount = BinaryAddressBookCodec.readVarInt(data);
+        for (int i = 0; i < keyCount; i++) {
+            K key = keyReader.read(data);
+            int count = BinaryAddressBookCodec.readVarInt(data);
+            int position = 0;
+            for (int j = 0; j < count; j++) {
+                position += BinaryAddressBookCodec.readVarInt(data);
+                put.accept(key, persons.get(position));
+            }
+        }
+    }
+
+    /**
+     * Reads a key of an index section.
+     */
+    @FunctionalInterface
+    private interface KeyReader<K> {
+        K read(DataInputStream data) throws IOException;
+    }
+}
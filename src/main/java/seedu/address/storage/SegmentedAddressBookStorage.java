@@ -0,0 +1,379 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a number of fixed-size segments on the hard disk.
+ * Each segment is a binary snapshot of consecutive persons, and a JSON manifest at the data file path lists
+ * the segments in order. A save only rewrites the segments whose persons have changed since they were last read
+ * or written, and then replaces the manifest atomically.
+ * If the manifest does not exist yet but a JSON data file of the same name does, the JSON data is migrated.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".segments";
+    public static final String MESSAGE_INVALID_SEGMENT_NAME = "Invalid segment file name in manifest: %s";
+
+    /** The number of persons in a newly created segment. */
+    static final int DEFAULT_SEGMENT_SIZE = 10000;
+
+    private static final String SEGMENT_DIRECTORY_SUFFIX = "-segments";
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private Path filePath;
+    private final int segmentSize;
+
+    /** The segments that the manifest at {@code segmentsFilePath} lists, as last read or written. */
+    private List<Segment> segments = Collections.emptyList();
+    private Path segmentsFilePath;
+    private int nextSegmentId;
+    /**
+     * True if the segments were last read rather than written. The persons just read may not be the objects that
+     * are then saved, such as when the model only takes the persons that differ from its own, so they are matched
+     * by equality until the next save.
+     */
+    private boolean isMatchedByEquality;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    SegmentedAddressBookStorage(Path filePath, int segmentSize) {
+        this.filePath = filePath;
+        this.segmentSize = segmentSize;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The segments are read in parallel.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or any segment is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSegmentManifest> manifest = JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return migrateFrom(AddressBookFileFormat.JSON.siblingOf(filePath), filePath);
+        }
+
+        List<String> segmentFiles = manifest.get().getSegments();
+        for (String segmentFile : segmentFiles) {
+            if (!isSegmentFileName(segmentFile)) {
+                throw new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT_NAME, segmentFile)));
+            }
+        }
+
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        List<Segment> readSegments = new ArrayList<>(readSegments(segmentDirectory, segmentFiles));
+        List<Person> persons = new ArrayList<>();
+        readSegments.forEach(segment -> persons.addAll(segment.persons));
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataConversionException(dpe);
+        }
+
+        segments = readSegments;
+        segmentsFilePath = filePath;
+        nextSegmentId = manifest.get().getNextSegmentId();
+        isMatchedByEquality = true;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the given segment files in parallel.
+     * If more than one segment cannot be read, the error for the first of them is reported.
+     */
+    private List<Segment> readSegments(Path segmentDirectory, List<String> segmentFiles)
+            throws DataConversionException {
+        Segment[] readSegments = new Segment[segmentFiles.size()];
+        Exception[] errors = new Exception[segmentFiles.size()];
+        IntStream.range(0, segmentFiles.size()).parallel().forEach(i -> {
+            String segmentFile = segmentFiles.get(i);
+            try {
+                ReadOnlyAddressBook segment = BinaryAddressBookStorage.readBinaryFile(
+                        segmentDirectory.resolve(segmentFile));
+                readSegments[i] = new Segment(segmentFile, segment.getPersonList());
+            } catch (DataConversionException | IOException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] instanceof DataConversionException) {
+                throw (DataConversionException) errors[i];
+            } else if (errors[i] != null) {
+                logger.warning("Error reading segment " + segmentFiles.get(i) + ": " + errors[i]);
+                throw new DataConversionException(errors[i]);
+            }
+        }
+        return List.of(readSegments);
+    }
+
+    /**
+     * Reads the JSON data at {@code legacyFilePath}, if there is any, and saves it as segments at {@code filePath}.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFrom(Path legacyFilePath, Path filePath)
+            throws DataConversionException {
+        if (legacyFilePath.equals(filePath) || !Files.exists(legacyFilePath)) {
+            return Optional.empty();
+        }
+
+        logger.info("Migrating " + legacyFilePath + " to segmented file " + filePath);
+        Optional<ReadOnlyAddressBook> legacyAddressBook =
+                new JsonAddressBookStorage(legacyFilePath).readAddressBook(legacyFilePath);
+        if (legacyAddressBook.isPresent()) {
+            try {
+                saveAddressBook(legacyAddressBook.get(), filePath);
+            } catch (IOException ioe) {
+                logger.warning("Could not save migrated data to " + filePath + ": " + ioe);
+            }
+        }
+        return legacyAddressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only segments with changed persons are written, each to a new file, before the manifest is replaced.
+     * A failed save therefore never corrupts the existing data.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        if (!filePath.equals(segmentsFilePath)) {
+            // the segments read or written before belong to another manifest
+            segments = Collections.emptyList();
+            nextSegmentId = findNextSegmentId(segmentDirectory);
+        }
+
+        List<Segment> updatedSegments = partition(addressBook.getPersonList());
+        Files.createDirectories(segmentDirectory);
+        int writtenCount = 0;
+        for (Segment segment : updatedSegments) {
+            if (segment.isDirty) {
+                AddressBook segmentData = new AddressBook();
+                segmentData.setPersons(segment.persons);
+                BinaryAddressBookStorage.writeBinaryFile(segmentData, segmentDirectory.resolve(segment.fileName));
+                segment.isDirty = false;
+                writtenCount++;
+            }
+        }
+
+        List<String> segmentFiles = new ArrayList<>();
+        updatedSegments.forEach(segment -> segmentFiles.add(segment.fileName));
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        JsonUtil.saveJsonFile(new JsonSegmentManifest(nextSegmentId, segmentFiles), tempFile);
+        FileUtil.moveAtomically(tempFile, filePath);
+        logger.fine("Wrote " + writtenCount + " of " + updatedSegments.size() + " segments to " + segmentDirectory);
+
+        segments = updatedSegments;
+        segmentsFilePath = filePath;
+        isMatchedByEquality = false;
+        deleteUnusedSegments(segmentDirectory, new HashSet<>(segmentFiles));
+    }
+
+    /**
+     * Assigns {@code persons} to segments, keeping the segments last read or written for persons that are unchanged.
+     * Commands keep the order of the persons they do not change, so a person that is not in any of the
+     * previous segments is added to the segment of the person before it.
+     */
+    private List<Segment> partition(List<Person> persons) {
+        Map<Person, Integer> previousSegmentOf = isMatchedByEquality ? new HashMap<>() : new IdentityHashMap<>();
+        for (int i = 0; i < segments.size(); i++) {
+            for (Person person : segments.get(i).persons) {
+                previousSegmentOf.put(person, i);
+            }
+        }
+
+        List<List<Person>> assignedPersons = new ArrayList<>();
+        segments.forEach(segment -> assignedPersons.add(new ArrayList<>()));
+        int currentSegment = 0;
+        for (Person person : persons) {
+            Integer previousSegment = previousSegmentOf.get(person);
+            if (previousSegment != null) {
+                if (previousSegment < currentSegment) {
+                    // the persons have been reordered
+                    return createSegments(persons);
+                }
+                currentSegment = previousSegment;
+            } else if (segments.isEmpty()) {
+                return createSegments(persons);
+            }
+            assignedPersons.get(currentSegment).add(person);
+        }
+
+        List<Segment> updatedSegments = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            Segment previous = segments.get(i);
+            List<Person> assigned = assignedPersons.get(i);
+            if (previous.hasSamePersons(assigned, isMatchedByEquality)) {
+                // kept with the persons being saved, which later saves then match by identity
+                updatedSegments.add(isMatchedByEquality ? new Segment(previous.fileName, assigned) : previous);
+            } else if (assigned.size() > 2 * segmentSize) {
+                updatedSegments.addAll(createSegments(assigned));
+            } else if (!assigned.isEmpty()) {
+                updatedSegments.add(createSegment(assigned));
+            }
+        }
+        return updatedSegments;
+    }
+
+    private List<Segment> createSegments(List<Person> persons) {
+        List<Segment> newSegments = new ArrayList<>();
+        for (int start = 0; start < persons.size(); start += segmentSize) {
+            newSegments.add(createSegment(persons.subList(start, Math.min(start + segmentSize, persons.size()))));
+        }
+        return newSegments;
+    }
+
+    private Segment createSegment(List<Person> persons) {
+        Segment segment = new Segment(SEGMENT_FILE_PREFIX + nextSegmentId + BinaryAddressBookStorage.FILE_EXTENSION,
+                persons);
+        segment.isDirty = true;
+        nextSegmentId++;
+        return segment;
+    }
+
+    /**
+     * Returns an id that no segment file in {@code segmentDirectory} has.
+     */
+    private static int findNextSegmentId(Path segmentDirectory) throws IOException {
+        int nextId = 0;
+        if (!Files.isDirectory(segmentDirectory)) {
+            return nextId;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(segmentDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isSegmentFileName(fileName)) {
+                    nextId = Math.max(nextId, getSegmentId(fileName) + 1);
+                }
+            }
+        }
+        return nextId;
+    }
+
+    /**
+     * Deletes the segment files in {@code segmentDirectory} that are not in {@code usedSegmentFiles}.
+     * Failures are only logged, as unused segment files do not affect the data.
+     */
+    private static void deleteUnusedSegments(Path segmentDirectory, Set<String> usedSegmentFiles) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(segmentDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (isSegmentFileName(fileName) && !usedSegmentFiles.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not delete unused segments in " + segmentDirectory + ": " + ioe);
+        }
+    }
+
+    private static boolean isSegmentFileName(String fileName) {
+        if (!fileName.startsWith(SEGMENT_FILE_PREFIX) || !fileName.endsWith(BinaryAddressBookStorage.FILE_EXTENSION)) {
+            return false;
+        }
+        String id = fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                fileName.length() - BinaryAddressBookStorage.FILE_EXTENSION.length());
+        return !id.isEmpty() && id.length() < 10 && id.chars().allMatch(Character::isDigit);
+    }
+
+    private static int getSegmentId(String segmentFileName) {
+        return Integer.parseInt(segmentFileName.substring(SEGMENT_FILE_PREFIX.length(),
+                segmentFileName.length() - BinaryAddressBookStorage.FILE_EXTENSION.length()));
+    }
+
+    /**
+     * Returns the directory that holds the segments of the manifest at {@code filePath}.
+     */
+    static Path getSegmentDirectory(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return filePath.resolveSibling(baseName + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * A segment file and the persons in it.
+     */
+    private static class Segment {
+        private final String fileName;
+        private final List<Person> persons;
+        private boolean isDirty;
+
+        Segment(String fileName, List<Person> persons) {
+            this.fileName = fileName;
+            this.persons = List.copyOf(persons);
+        }
+
+        /**
+         * Returns true if {@code otherPersons} are the same person objects, in the same order, as in this segment,
+         * or equal persons if {@code isMatchedByEquality}.
+         * Persons are immutable, so any edited person is a different object.
+         */
+        boolean hasSamePersons(List<Person> otherPersons, boolean isMatchedByEquality) {
+            if (otherPersons.size() != persons.size()) {
+                return false;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                Person otherPerson = otherPersons.get(i);
+                if (otherPerson != persons.get(i) && !(isMatchedByEquality && otherPerson.equals(persons.get(i)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -2,12 +2,15 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * API of the Storage component
@@ -29,4 +32,32 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns true if the data file is as this storage last saved it, so it has no changes made by other programs.
+     */
+    boolean isAddressBookFileAsSaved() throws IOException;
+
+    /**
+     * Returns the saved index of {@code persons}, the persons just read from the address book,
+     * or an empty {@code Optional} if there is no up-to-date index.
+     */
+    Optional<PersonIndex> readPersonIndex(List<Person> persons) throws IOException;
+
+    /**
+     * Saves {@code index}, the index of {@code persons}, the persons last read from or saved to the address book.
+     */
+    void savePersonIndex(PersonIndex index, List<Person> persons) throws IOException;
+
+    /**
+     * Returns the IDs of the backups of the address book, from the oldest to the newest.
+     */
+    List<String> getBackupIds() throws IOException;
+
+    /**
+     * Replaces the address book's data file with its backup {@code backupId}.
+     *
+     * @throws DataConversionException if there is no such backup, or it is corrupted.
+     */
+    void restoreAddressBook(String backupId) throws DataConversionException, IOException;
+
 }
@@ -1,15 +1,23 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonIndex;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,6 +27,12 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private PersonIndexStorage personIndexStorage;
+    private BackupStorage backupStorage;
+    private Duration backupInterval;
+    private Instant lastBackupTime;
+    /** The stamp of the data file as this storage last saved it, or null if it has not saved it yet. */
+    private volatile DataFileWatcher.FileStamp lastSavedStamp;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -26,6 +40,18 @@ public class StorageManager implements Storage {
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.personIndexStorage = new PersonIndexStorage(addressBookStorage.getAddressBookFilePath());
+    }
+
+    /**
+     * Creates a {@code StorageManager} that also backs up the address book to {@code backupStorage}
+     * when it is saved, if it was last backed up at least {@code backupInterval} before.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            BackupStorage backupStorage, Duration backupInterval) {
+        this(addressBookStorage, userPrefsStorage);
+        this.backupStorage = backupStorage;
+        this.backupInterval = backupInterval;
     }
 
     // ================ UserPrefs methods ==============================
@@ -73,6 +99,101 @@ public class StorageManager implements Storage {
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            lastSavedStamp = DataFileWatcher.FileStamp.of(filePath);
+        }
+
+        // the index is only saved once it has been built, as building it just to save it would slow down every save
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath()) && addressBook instanceof AddressBook
+                && ((AddressBook) addressBook).hasPersonIndex()) {
+            try {
+                savePersonIndex(((AddressBook) addressBook).getPersonIndex(), addressBook.getPersonList());
+            } catch (IOException e) {
+                logger.warning("Failed to save the person index : " + StringUtil.getDetails(e));
+            }
+        }
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            backUpIfDue(filePath);
+        }
+    }
+
+    @Override
+    public boolean isAddressBookFileAsSaved() throws IOException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        return lastSavedStamp != null && Files.exists(filePath)
+                && lastSavedStamp.equals(DataFileWatcher.FileStamp.of(filePath));
+    }
+
+    // ================ Backup methods ==============================
+
+    @Override
+    public List<String> getBackupIds() throws IOException {
+        return backupStorage == null ? List.of() : backupStorage.getBackupIds();
+    }
+
+    @Override
+    public void restoreAddressBook(String backupId) throws DataConversionException, IOException {
+        if (backupStorage == null) {
+            throw new IOException("Backups are not enabled");
+        }
+        if (!isBackedUp()) {
+            throw new IOException("Segmented data files cannot be restored from a backup");
+        }
+        backupStorage.restore(backupId, addressBookStorage.getAddressBookFilePath());
+    }
+
+    /**
+     * Backs up the data file at {@code filePath} if backups are enabled and the last backup is old enough.
+     * The data has already been saved, so a failed backup is only logged.
+     */
+    private void backUpIfDue(Path filePath) {
+        if (backupStorage == null || !isBackedUp()) {
+            return;
+        }
+        try {
+            if (lastBackupTime == null) {
+                lastBackupTime = backupStorage.getLastBackupTime().orElse(Instant.MIN);
+            }
+            Instant now = Instant.now();
+            if (lastBackupTime.equals(Instant.MIN) || !now.isBefore(lastBackupTime.plus(backupInterval))) {
+                backupStorage.backup(filePath);
+                lastBackupTime = now;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to back up the data file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns true if the data file holds all of the address book, so that a backup of it can be restored.
+     * A segmented data file is only a manifest of segments in other files, which a save deletes once they are
+     * no longer used, so a backup of the manifest alone could not be restored.
+     */
+    private boolean isBackedUp() {
+        return !(addressBookStorage instanceof SegmentedAddressBookStorage);
+    }
+
+    // ================ PersonIndex methods ==============================
+
+    @Override
+    public Optional<PersonIndex> readPersonIndex(List<Person> persons) throws IOException {
+        // the index is stamped with the hash of the data it indexes, so it cannot be checked without that hash
+        Optional<String> contentHash = addressBookStorage.getContentHash();
+        if (contentHash.isEmpty()) {
+            return Optional.empty();
+        }
+        logger.fine("Attempting to read index file: " + personIndexStorage.getPersonIndexFilePath());
+        return personIndexStorage.readPersonIndex(persons, contentHash.get());
+    }
+
+    @Override
+    public void savePersonIndex(PersonIndex index, List<Person> persons) throws IOException {
+        Optional<String> contentHash = addressBookStorage.getContentHash();
+        if (contentHash.isEmpty()) {
+            return;
+        }
+        logger.fine("Attempting to write to index file: " + personIndexStorage.getPersonIndexFilePath());
+        personIndexStorage.savePersonIndex(index, persons, contentHash.get());
     }
 
 }
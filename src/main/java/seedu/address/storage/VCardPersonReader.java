@@ -0,0 +1,299 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads persons from a vCard file (.vcf) exported by a phone or mail client.
+ * Each card is read as one person, from its FN (or else N), first TEL, first EMAIL, first ADR
+ * and CATEGORIES properties, which become the person's tags. Other properties are ignored.
+ * Spaces, dashes, dots, brackets and a leading plus sign are removed from phone numbers.
+ * <p>
+ * The file is read one line at a time, so only the card being read is held in memory.
+ */
+public class VCardPersonReader {
+
+    public static final String FILE_EXTENSION = ".vcf";
+
+    public static final String MESSAGE_UNTERMINATED_CARD = "The card has no END:VCARD line";
+
+    private VCardPersonReader() {}
+
+    /**
+     * Returns true if the file at {@code filePath} is named as a vCard file.
+     */
+    public static boolean isVCardFile(Path filePath) {
+        return String.valueOf(filePath.getFileName()).toLowerCase(Locale.ROOT).endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the persons in the vCard file at {@code filePath}.
+     * Cards that cannot be read as persons are reported in the result rather than failing the whole file.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static PersonImportResult read(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * Reads the persons in the vCard data from {@code in}.
+     */
+    public static PersonImportResult read(Reader in) throws IOException {
+        requireNonNull(in);
+        UnfoldingReader reader = new UnfoldingReader(in instanceof BufferedReader
+                ? (BufferedReader) in : new BufferedReader(in));
+        List<PersonImportResult.Row> rows = new ArrayList<>();
+        List<PersonImportResult.RowError> errors = new ArrayList<>();
+
+        Card card = null;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            Property property = Property.parse(line);
+            if (property == null) {
+                continue;
+            }
+            if (property.is("BEGIN") && property.value.equalsIgnoreCase("VCARD")) {
+                if (card != null) {
+                    errors.add(new PersonImportResult.RowError(card.firstLine, MESSAGE_UNTERMINATED_CARD));
+                }
+                card = new Card(reader.getLineNumber());
+            } else if (card != null && property.is("END") && property.value.equalsIgnoreCase("VCARD")) {
+                try {
+                    rows.add(new PersonImportResult.Row(card.firstLine, card.toPerson()));
+                } catch (IllegalValueException ive) {
+                    errors.add(new PersonImportResult.RowError(card.firstLine, ive.getMessage()));
+                }
+                card = null;
+            } else if (card != null) {
+                card.add(property);
+            }
+        }
+        if (card != null) {
+            errors.add(new PersonImportResult.RowError(card.firstLine, MESSAGE_UNTERMINATED_CARD));
+        }
+        return new PersonImportResult(rows, errors);
+    }
+
+    /**
+     * Returns {@code value} with the vCard escapes for backslashes, commas, semicolons and line breaks undone.
+     */
+    static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                unescaped.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Splits a structured or list value at the unescaped occurrences of {@code separator}, and unescapes the parts.
+     */
+    static List<String> split(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == separator) {
+                parts.add(unescape(value.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        parts.add(unescape(value.substring(start)));
+        return parts;
+    }
+
+    /**
+     * A content line of a card, with its parameters left out.
+     */
+    private static class Property {
+        private final String name;
+        private final String value;
+
+        private Property(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * Returns the property on {@code line}, or null if the line is not a property.
+         */
+        static Property parse(String line) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                return null;
+            }
+            String nameAndParameters = line.substring(0, colon);
+            int semicolon = nameAndParameters.indexOf(';');
+            String name = semicolon < 0 ? nameAndParameters : nameAndParameters.substring(0, semicolon);
+            // group prefixes such as "item1.EMAIL" are left out
+            int dot = name.lastIndexOf('.');
+            return new Property(name.substring(dot + 1).trim().toUpperCase(Locale.ROOT), line.substring(colon + 1));
+        }
+
+        boolean is(String propertyName) {
+            return name.equals(propertyName);
+        }
+    }
+
+    /**
+     * The properties of a card read so far.
+     */
+    private static class Card {
+        private final int firstLine;
+        private String formattedName;
+        private String structuredName;
+        private String phone;
+        private String email;
+        private String address;
+        private final List<String> tagNames = new ArrayList<>();
+
+        Card(int firstLine) {
+            this.firstLine = firstLine;
+        }
+
+        void add(Property property) {
+            switch (property.name) {
+            case "FN":
+                formattedName = unescape(property.value);
+                break;
+            case "N":
+                structuredName = toName(split(property.value, ';'));
+                break;
+            case "TEL":
+                phone = phone == null ? toPhone(property.value) : phone;
+                break;
+            case "EMAIL":
+                email = email == null ? unescape(property.value) : email;
+                break;
+            case "ADR":
+                address = address == null ? toAddress(split(property.value, ';')) : address;
+                break;
+            case "CATEGORIES":
+                for (String category : split(property.value, ',')) {
+                    if (!category.trim().isEmpty()) {
+                        tagNames.add(category);
+                    }
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        Person toPerson() throws IllegalValueException {
+            String name = formattedName == null || formattedName.trim().isEmpty() ? structuredName : formattedName;
+            return ImportedPerson.toPerson(name, phone, email, address, tagNames);
+        }
+
+        /**
+         * Returns the name in the components of an N value: family name, given names, additional names,
+         * prefixes and suffixes.
+         */
+        private static String toName(List<String> components) {
+            List<String> order = new ArrayList<>();
+            int[] displayOrder = {3, 1, 2, 0, 4};
+            for (int index : displayOrder) {
+                if (index < components.size() && !components.get(index).trim().isEmpty()) {
+                    order.add(components.get(index).trim());
+                }
+            }
+            return String.join(" ", order);
+        }
+
+        /**
+         * Returns the address in the components of an ADR value, joined with commas.
+         */
+        private static String toAddress(List<String> components) {
+            List<String> parts = new ArrayList<>();
+            for (String component : components) {
+                if (!component.trim().isEmpty()) {
+                    parts.add(component.trim().replace('\n', ' '));
+                }
+            }
+            return String.join(", ", parts);
+        }
+
+        private static String toPhone(String value) {
+            StringBuilder phone = new StringBuilder();
+            String trimmed = unescape(value).trim();
+            for (int i = 0; i < trimmed.length(); i++) {
+                char c = trimmed.charAt(i);
+                boolean isSeparator = c == ' ' || c == '-' || c == '.' || c == '(' || c == ')'
+                        || (c == '+' && i == 0);
+                if (!isSeparator) {
+                    phone.append(c);
+                }
+            }
+            return phone.toString();
+        }
+    }
+
+    /**
+     * Reads the logical lines of vCard data, joining folded lines, which continue on lines starting with
+     * a space or tab.
+     */
+    private static class UnfoldingReader {
+        private final BufferedReader in;
+        private String next;
+        private int nextLineNumber;
+        private int lineNumber;
+
+        UnfoldingReader(BufferedReader in) {
+            this.in = in;
+        }
+
+        /**
+         * Returns the physical line number, counted from 1, that the last logical line read starts on.
+         */
+        int getLineNumber() {
+            return lineNumber;
+        }
+
+        String readLine() throws IOException {
+            if (next == null) {
+                next = in.readLine();
+                nextLineNumber++;
+            }
+            if (next == null) {
+                return null;
+            }
+
+            lineNumber = nextLineNumber;
+            StringBuilder line = new StringBuilder(next);
+            next = in.readLine();
+            nextLineNumber++;
+            while (next != null && !next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+                line.append(next, 1, next.length());
+                next = in.readLine();
+                nextLineNumber++;
+            }
+            return line.toString();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons to a vCard 3.0 file (.vcf) that phone and mail clients can import.
+ * Each person is written as a card as soon as it is reached, so the document is never built in memory.
+ */
+public class VCardPersonWriter {
+
+    private static final String LINE_BREAK = "\r\n";
+    /** The most octets of UTF-8 a content line may take before it is folded onto the next line. */
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private VCardPersonWriter() {}
+
+    /**
+     * Writes {@code persons} to the vCard file at {@code filePath}, replacing it if it exists.
+     *
+     * @return the number of persons written.
+     */
+    public static int write(Iterable<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter out = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            return write(persons, out);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} as vCard data.
+     *
+     * @return the number of persons written.
+     */
+    public static int write(Iterable<Person> persons, Writer out) throws IOException {
+        int count = 0;
+        for (Person person : persons) {
+            writeCard(person, out);
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    private static void writeCard(Person person, Writer out) throws IOException {
+        writeLine(out, "BEGIN:VCARD");
+        writeLine(out, "VERSION:3.0");
+        writeLine(out, "FN:" + escape(person.getName().fullName));
+        writeLine(out, "N:;" + escape(person.getName().fullName) + ";;;");
+        writeLine(out, "TEL:" + escape(person.getPhone().value));
+        writeLine(out, "EMAIL:" + escape(person.getEmail().value));
+        writeLine(out, "ADR:;;" + escape(person.getAddress().value) + ";;;;");
+        if (!person.getTags().isEmpty()) {
+            StringBuilder categories = new StringBuilder("CATEGORIES:");
+            for (Iterator<Tag> tags = person.getTags().iterator(); tags.hasNext();) {
+                categories.append(escape(tags.next().tagName));
+                if (tags.hasNext()) {
+                    categories.append(',');
+                }
+            }
+            writeLine(out, categories.toString());
+        }
+        writeLine(out, "END:VCARD");
+    }
+
+    /**
+     * Writes {@code line}, folded onto continuation lines starting with a space if it is too long.
+     * Lines are only folded between code points, so that no character is split across lines.
+     */
+    private static void writeLine(Writer out, String line) throws IOException {
+        int start = 0;
+        int lineOctets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int octets = utf8Length(codePoint);
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                out.write(line, start, i - start);
+                out.write(LINE_BREAK);
+                out.write(' ');
+                start = i;
+                // the leading space of a continuation line counts towards its length
+                lineOctets = 1;
+            }
+            lineOctets += octets;
+            i += Character.charCount(codePoint);
+        }
+        out.write(line, start, line.length() - start);
+        out.write(LINE_BREAK);
+    }
+
+    /**
+     * Returns the number of octets that {@code codePoint} takes in UTF-8.
+     */
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        } else {
+            return 4;
+        }
+    }
+
+    /**
+     * Returns {@code value} with backslashes, commas, semicolons and line breaks escaped.
+     */
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == ',' || c == ';') {
+                escaped.append('\\').append(c);
+            } else if (c == '\n') {
+                escaped.append("\\n");
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -1,22 +1,25 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands run without blocking it, so the next command can be typed while the last one is still running.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private int runningCommandCount;
 
     @FXML
     private TextField commandTextField;
@@ -41,12 +44,19 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        // cleared at once, so that the next command can be typed while this one runs
+        commandTextField.setText("");
+        runningCommandCount++;
+        setStyleToIndicateBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            runningCommandCount--;
+            setStyleToIndicateBusy(runningCommandCount > 0);
+            // a failed command is given back to be corrected, unless another command is being typed
+            if (error != null && commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -69,17 +79,30 @@ public class CommandBox extends UiPart<Region> {
         styleClass.add(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to show whether commands are still running.
+     */
+    private void setStyleToIndicateBusy(boolean isBusy) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
+        }
+    }
+
     /**
      * Represents a function that can execute commands.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which completes on the JavaFX application thread,
+         * and fails if the command cannot be executed.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +17,10 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -35,9 +40,15 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
+    /** The background tasks of commands that are still running, which are cancelled along with the commands. */
+    private final Set<BackgroundTask> backgroundTasks = new HashSet<>();
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
+    @FXML
+    private MenuItem cancelMenuItem;
+
     @FXML
     private MenuItem helpMenuItem;
 
@@ -74,6 +85,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
+        setAccelerator(cancelMenuItem, KeyCombination.valueOf("Esc"));
     }
 
     /**
@@ -151,6 +163,16 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Cancels the commands that are still running, and the work they left to do in the background.
+     * Cancelled commands leave the address book as it was.
+     */
+    @FXML
+    private void handleCancel() {
+        logic.cancelCommands();
+        backgroundTasks.forEach(BackgroundTask::cancel);
+    }
+
     /**
      * Closes the application.
      */
@@ -168,15 +190,43 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows the progress of {@code task} as it is reported, and then its feedback.
+     */
+    private void showBackgroundTask(BackgroundTask task) {
+        backgroundTasks.add(task);
+        task.setProgressListener(progress -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(progress)));
+        task.getResult().whenComplete((feedback, error) -> Platform.runLater(() -> {
+            backgroundTasks.remove(task);
+            String message = error == null ? feedback
+                    : error instanceof CancellationException ? Messages.MESSAGE_BACKGROUND_TASK_CANCELLED
+                    : error.getMessage();
+            logger.info("Background result: " + message);
+            resultDisplay.setFeedbackToUser(message);
+        }));
+    }
+
+    /**
+     * Executes the command on the model thread, and shows its result on the JavaFX application thread once it is done.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @return the result, which completes on the JavaFX application thread once it is shown.
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error instanceof CancellationException) {
+                logger.info("Cancelled command: " + commandText);
+                resultDisplay.setFeedbackToUser(String.format(Messages.MESSAGE_COMMAND_CANCELLED, commandText));
+                return;
+            }
+            if (error != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getBackgroundTask().ifPresent(this::showBackgroundTask);
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -185,12 +235,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
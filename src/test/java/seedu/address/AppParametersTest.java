@@ -37,6 +37,27 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_restoreBackupId_success() {
+        parametersStub.namedParameters.put("restore", "20261019-083000-000");
+        expected.setRestoreBackupId("20261019-083000-000");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArgs_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(true);
+        expected.setScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--headless",
+            "--script=script.txt", "unnamed"}));
+    }
+
+    @Test
+    public void parse_rawArgsWithoutHeadless_notHeadless() {
+        assertEquals(expected, AppParameters.parse(new String[] {"headless", "--headless=true"}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
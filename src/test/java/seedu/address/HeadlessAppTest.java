@@ -0,0 +1,149 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AppParameters appParameters = new AppParameters();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Path addressBookFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        addressBookFilePath = testFolder.resolve("addressbook.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        Path userPrefsFilePath = testFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        appParameters.setConfigPath(configFilePath);
+
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(new AddressBook());
+    }
+
+    @Test
+    public void run_script_resultsPrintedAndSaved() throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.writeString(scriptPath, PersonUtil.getAddCommand(AMY) + "\nunknown\nlist\n");
+        appParameters.setScriptPath(scriptPath);
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run("", false));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY) + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Line 2 (unknown): " + MESSAGE_UNKNOWN_COMMAND));
+        assertEquals(addressBookWith(AMY), readAddressBook());
+    }
+
+    @Test
+    public void run_pipedInput_executedAsScript() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(PersonUtil.getAddCommand(AMY) + "\n"
+                + PersonUtil.getAddCommand(BOB) + "\n", false));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, AMY) + System.lineSeparator()
+                + String.format(AddCommand.MESSAGE_SUCCESS, BOB) + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+        assertEquals(addressBookWith(AMY, BOB), readAddressBook());
+    }
+
+    @Test
+    public void run_interactive_stopsAtExit() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run("unknown\n" + PersonUtil.getAddCommand(AMY) + "\n\nexit\n"
+                + PersonUtil.getAddCommand(BOB) + "\n", true));
+        assertEquals(HeadlessApp.PROMPT + HeadlessApp.PROMPT
+                + String.format(AddCommand.MESSAGE_SUCCESS, AMY) + System.lineSeparator()
+                + HeadlessApp.PROMPT + HeadlessApp.PROMPT
+                + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+        assertEquals(addressBookWith(AMY), readAddressBook());
+    }
+
+    @Test
+    public void run_corruptedMappedDataFile_startsWithEmptyAddressBook() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        // flips a bit in the last byte of the last record, so that only decoding that record fails
+        byte[] bytes = Files.readAllBytes(binaryFilePath);
+        int offsetTablePosition = ByteBuffer.wrap(bytes).getInt(bytes.length - Integer.BYTES);
+        bytes[offsetTablePosition - Integer.BYTES - 1] ^= 0x01;
+        Files.write(binaryFilePath, bytes);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(binaryFilePath);
+        Path userPrefsFilePath = testFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        config.setMemoryMappingEnabled(true);
+        ConfigUtil.saveConfig(config, appParameters.getConfigPath());
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run("list\n", false));
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+        assertEquals(new AddressBook(), new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void run_missingScript_exitError() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        appParameters.setScriptPath(scriptPath);
+        assertEquals(HeadlessApp.EXIT_ERROR, run("", false));
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Could not read " + scriptPath));
+    }
+
+    private int run(String input, boolean isInteractive) {
+        InputStream in = new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+        return new HeadlessApp(appParameters, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8)).run(in, isInteractive);
+    }
+
+    private ReadOnlyAddressBook readAddressBook() throws Exception {
+        return new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get();
+    }
+
+    private static AddressBook addressBookWith(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+public class CancellationTokenTest {
+
+    @Test
+    public void throwIfCancelled_notCancelled_doesNotThrow() {
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.throwIfCancelled();
+        assertFalse(cancellationToken.isCancelled());
+    }
+
+    @Test
+    public void throwIfCancelled_cancelled_throwsCancellationException() {
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.cancel();
+        assertTrue(cancellationToken.isCancelled());
+        assertThrows(CancellationException.class, cancellationToken::throwIfCancelled);
+    }
+
+    @Test
+    public void cancel_none_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, CancellationToken.NONE::cancel);
+        assertFalse(CancellationToken.NONE.isCancelled());
+    }
+}
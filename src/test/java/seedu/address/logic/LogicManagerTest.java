@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,9 +11,19 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,6 +51,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -46,7 +59,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -88,6 +101,105 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_pendingAddressBook_installedBeforeCommand() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.setPendingAddressBook(CompletableFuture.completedFuture(getTypicalAddressBook()));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void executeBatch_validCommands_savedOnce() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.executeBatch(Arrays.asList(addCommand, ListCommand.COMMAND_WORD));
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+        assertEquals(expectedModel.getAddressBook(), new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")).readAddressBook().get());
+    }
+
+    @Test
+    public void executeBatch_invalidCommand_nothingSaved() {
+        assertThrows(CommandException.class, () -> logic.executeBatch(Arrays.asList(ListCommand.COMMAND_WORD,
+                "delete 9")));
+        assertEquals(new ModelManager(), model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD).get();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_failsWithParseException() {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+        assertThrows(ExecutionException.class, () -> result.get());
+        Throwable error = result.handle((commandResult, thrown) -> thrown).join();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_severalCommands_listChangesShownTogether() throws Exception {
+        Queue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
+        logic = new LogicManager(model, storage, uiTasks::add);
+        List<Person> shownPersons = logic.getFilteredPersonList();
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.executeAsync(addCommand);
+        logic.executeAsync("delete 1");
+        logic.executeAsync(addCommand).get();
+        // not shown until the UI thread gets to the changes, which it then shows all at once
+        assertEquals(List.of(), shownPersons);
+        assertEquals(1, uiTasks.size());
+
+        uiTasks.poll().run();
+        assertEquals(List.of(new PersonBuilder(AMY).withTags().build()), shownPersons);
+    }
+
+    @Test
+    public void runOnModelThread_afterCommands_runsOnceTheyAreDone() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> result = logic.executeAsync(addCommand);
+        logic.runOnModelThread(() -> assertTrue(result.isDone())).get();
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void cancelCommands_commandNotDone_modelUnchanged() throws Exception {
+        // holds the model thread, so that the command is still waiting when it is cancelled
+        CountDownLatch latch = new CountDownLatch(1);
+        logic.runOnModelThread(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> result = logic.executeAsync(addCommand);
+
+        logic.cancelCommands();
+        latch.countDown();
+        Throwable error = result.handle((commandResult, thrown) -> thrown).join();
+        assertTrue(error instanceof CancellationException);
+        assertEquals(new ModelManager(), model);
+
+        // later commands are not cancelled
+        logic.executeAsync(addCommand).get();
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,64 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class ObservablePersonListTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final List<Runnable> uiTasks = new ArrayList<>();
+    private final List<Person> replayedPersons = new ArrayList<>(List.of(ALICE, BOB));
+    private int changeCount;
+    private ObservablePersonList observablePersons;
+
+    @BeforeEach
+    public void setUp() {
+        persons.setPersons(List.of(ALICE, BOB));
+        observablePersons = new ObservablePersonList(persons.asUnmodifiableList(), uiTasks::add);
+        persons.addListener(observablePersons);
+        observablePersons.addListener((ListChangeListener<Person>) change -> {
+            changeCount++;
+            while (change.next()) {
+                replayedPersons.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedPersons.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void onChanged_batchedChange_firesOneJavaFxChange() {
+        Person editedBob = new PersonBuilder(BOB).withTags().build();
+        persons.applyAll(List.of(ALICE), Map.of(BOB, editedBob), List.of(HOON));
+        uiTasks.forEach(Runnable::run);
+        assertEquals(List.of(editedBob, HOON), observablePersons);
+        assertEquals(1, changeCount);
+        assertEquals(observablePersons, replayedPersons);
+    }
+
+    @Test
+    public void onChanged_changesBeforeUiThreadRuns_shownTogether() {
+        persons.remove(ALICE);
+        persons.add(HOON);
+        assertEquals(List.of(ALICE, BOB), observablePersons);
+        assertEquals(1, uiTasks.size());
+
+        uiTasks.get(0).run();
+        assertEquals(List.of(BOB, HOON), observablePersons);
+        assertEquals(1, changeCount);
+        assertEquals(observablePersons, replayedPersons);
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class PipelinedCommandExecutorTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_script_executedInOrderAndSaved() throws Exception {
+        String script = PersonUtil.getAddCommand(AMY) + "\n"
+                + "# comment\n"
+                + "\n"
+                + "unknown command\n"
+                + "delete 8\n"
+                + PersonUtil.getAddCommand(BOB) + "\n"
+                + "delete 100\n";
+        PipelinedCommandExecutor executor = new PipelinedCommandExecutor(new AddressBookParser(), model, storage,
+                4, 1);
+        PipelinedCommandExecutor.Result result = executor.execute(new BufferedReader(new StringReader(script)));
+
+        // Amy is the 8th person once added, so she is only deleted if the commands are executed in order
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(BOB);
+        assertEquals(expectedModel, model);
+        assertEquals(3, result.getExecutedCount());
+        assertEquals(2, result.getErrors().size());
+        assertEquals(4, result.getErrors().get(0).getLineNumber());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, result.getErrors().get(0).getMessage());
+        assertEquals(7, result.getErrors().get(1).getLineNumber());
+        assertEquals("delete 100", result.getErrors().get(1).getCommandText());
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, result.getErrors().get(1).getMessage());
+
+        assertTrue(result.getSaveCount() >= 1);
+        assertEquals(expectedModel.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_manyCommands_allExecuted() throws Exception {
+        StringBuilder script = new StringBuilder();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            script.append(PersonUtil.getAddCommand(person)).append('\n');
+        }
+        PipelinedCommandExecutor executor = new PipelinedCommandExecutor(new AddressBookParser(),
+                new ModelManager(), storage, 2, 8);
+        PipelinedCommandExecutor.Result result = executor.execute(
+                new BufferedReader(new StringReader(script.toString())));
+
+        assertEquals(500, result.getExecutedCount());
+        assertTrue(result.getErrors().isEmpty());
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.setPersons(persons);
+        assertEquals(expectedAddressBook, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_exitCommand_resultsReportedInOrderUntilExit() throws Exception {
+        String script = "list\n"
+                + "delete 100\n"
+                + "exit\n"
+                + PersonUtil.getAddCommand(AMY) + "\n";
+        List<String> results = new ArrayList<>();
+        PipelinedCommandExecutor executor = new PipelinedCommandExecutor(new AddressBookParser(), model, storage);
+        PipelinedCommandExecutor.Result result = executor.execute(new BufferedReader(new StringReader(script)),
+                new PipelinedCommandExecutor.ResultListener() {
+                    @Override
+                    public void executed(int lineNumber, CommandResult commandResult) {
+                        results.add(lineNumber + " " + commandResult.getFeedbackToUser());
+                    }
+
+                    @Override
+                    public void failed(PipelinedCommandExecutor.CommandError error) {
+                        results.add(error.getLineNumber() + " " + error.getMessage());
+                    }
+                });
+
+        assertEquals(List.of("1 " + ListCommand.MESSAGE_SUCCESS, "2 " + MESSAGE_INVALID_PERSON_DISPLAYED_INDEX,
+                "3 " + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), results);
+        assertEquals(2, result.getExecutedCount());
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_listenerThrows_restOfScriptExecuted() throws Exception {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            script.append("list\n");
+        }
+        // with a single queue slot, the reader would wait forever if the executor thread stopped
+        PipelinedCommandExecutor executor = new PipelinedCommandExecutor(new AddressBookParser(), model, storage,
+                1, 1);
+        PipelinedCommandExecutor.Result result = executor.execute(
+                new BufferedReader(new StringReader(script.toString())),
+                new PipelinedCommandExecutor.ResultListener() {
+                    @Override
+                    public void executed(int lineNumber, CommandResult commandResult) {
+                        throw new AssertionError("listener failed");
+                    }
+
+                    @Override
+                    public void failed(PipelinedCommandExecutor.CommandError error) {}
+                });
+
+        assertEquals(20, result.getExecutedCount());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void execute_saveFails_throwsCommandException() {
+        StorageManager failingStorage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw new IOException("dummy exception");
+                    }
+                }, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        PipelinedCommandExecutor executor = new PipelinedCommandExecutor(new AddressBookParser(), model,
+                failingStorage);
+        assertThrows(CommandException.class, LogicManager.FILE_OPS_ERROR_MESSAGE
+                + new IOException("dummy exception"), () -> executor.execute(
+                        new BufferedReader(new StringReader(PersonUtil.getAddCommand(AMY)))));
+    }
+}
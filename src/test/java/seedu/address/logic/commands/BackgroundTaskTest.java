@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+public class BackgroundTaskTest {
+
+    @Test
+    public void setProgressListener_afterProgressReported_givenLatestProgress() throws Exception {
+        BackgroundTask task = BackgroundTask.start(backgroundTask -> {
+            backgroundTask.reportProgress("half done");
+            backgroundTask.reportProgress("all done");
+            return "finished";
+        }, Runnable::run);
+        List<String> progress = new ArrayList<>();
+
+        task.setProgressListener(progress::add);
+        assertEquals(List.of("all done"), progress);
+        assertEquals("finished", task.getResult().get());
+    }
+
+    @Test
+    public void cancel_beforeStarted_workNotRun() {
+        List<Runnable> queuedWork = new ArrayList<>();
+        List<String> runs = new ArrayList<>();
+        BackgroundTask task = BackgroundTask.start(backgroundTask -> {
+            runs.add("run");
+            return "finished";
+        }, queuedWork::add);
+
+        task.cancel();
+        queuedWork.forEach(Runnable::run);
+        assertTrue(runs.isEmpty());
+        assertTrue(task.getResult().handle((feedback, error) -> error instanceof CancellationException).join());
+    }
+
+    @Test
+    public void start_workThrowsError_resultCompletedExceptionally() {
+        AssertionError workError = new AssertionError("work failed");
+        List<Runnable> queuedWork = new ArrayList<>();
+        BackgroundTask task = BackgroundTask.start(backgroundTask -> {
+            throw workError;
+        }, queuedWork::add);
+
+        // the error still reaches the thread doing the work
+        assertThrows(AssertionError.class, () -> queuedWork.forEach(Runnable::run));
+        assertSame(workError, task.getResult().handle((feedback, error) -> error).join());
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.DeleteCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CsvPersonReader;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_appliedInOneChange() throws Exception {
+        AtomicInteger changeCount = new AtomicInteger();
+        model.addPersonListListener(change -> changeCount.incrementAndGet());
+
+        List<String> commandTexts = Arrays.asList("# add Amy, then delete Alice",
+                PersonUtil.getAddCommand(AMY), "", "delete 1");
+        CommandResult result = new BatchCommand(parser, commandTexts).execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.deletePerson(ALICE);
+        assertEquals(expectedModel, model);
+        assertEquals(1, changeCount.get());
+        assertTrue(result.getFeedbackToUser().startsWith("Executed 2 commands in "));
+    }
+
+    @Test
+    public void execute_filterChangedByCommand_filterApplied() throws Exception {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+
+        // indexes refer to the displayed persons, as they would for each command on its own
+        new BatchCommand(parser, Arrays.asList("delete 1", "list")).execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_commandFails_addressBookUnchanged() {
+        BatchCommand batchCommand = new BatchCommand(parser,
+                Arrays.asList(PersonUtil.getAddCommand(AMY), "delete 1", "delete 100"));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILED, 3, "delete 100",
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_commandCannotBeParsed_addressBookUnchanged() {
+        BatchCommand batchCommand = new BatchCommand(parser,
+                Arrays.asList(PersonUtil.getAddCommand(AMY), "unknown"));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILED, 2, "unknown", MESSAGE_UNKNOWN_COMMAND);
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_cancelled_addressBookUnchanged() {
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.cancel();
+        BatchCommand batchCommand = new BatchCommand(parser,
+                Arrays.asList(PersonUtil.getAddCommand(AMY), "delete 1"));
+
+        assertThrows(CancellationException.class, () -> batchCommand.execute(model, cancellationToken));
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_commandWithBackgroundTask_waitsForTask() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("export", () -> arguments -> new ExportCommand(filePath, 0));
+
+        new BatchCommand(new AddressBookParser(registry), Arrays.asList("export")).execute(model);
+        assertEquals(model.getFilteredPersonList(), CsvPersonReader.read(filePath).getPersons());
+    }
+
+    @Test
+    public void execute_backgroundTaskFails_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        Files.createDirectories(filePath.resolve("directory"));
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("export", () -> arguments -> new ExportCommand(filePath, 0));
+        registry.register("delete", DeleteCommandParser::new);
+
+        BatchCommand batchCommand = new BatchCommand(new AddressBookParser(registry),
+                Arrays.asList("delete 1", "export"));
+        assertThrows(CommandException.class, () -> batchCommand.execute(model));
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_nestedRun_throwsCommandException() {
+        BatchCommand batchCommand = new BatchCommand(parser, Arrays.asList("run script.txt"));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_FAILED, 1, "run script.txt",
+                BatchCommand.MESSAGE_NESTED_BATCH);
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+}
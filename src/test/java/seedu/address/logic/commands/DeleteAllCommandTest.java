@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+public class DeleteAllCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_unfilteredList_deletesEveryone() {
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new DeleteAllCommand(), model,
+                String.format(DeleteAllCommand.MESSAGE_SUCCESS, getTypicalAddressBook().getPersonList().size()),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_deletesDisplayedPersons() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(new DeleteAllCommand(), model, String.format(DeleteAllCommand.MESSAGE_SUCCESS, 1),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_query_deletesMatchingPersons() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        // the query matches persons whether they are displayed or not
+        DeleteAllCommand command = new DeleteAllCommand(new NameContainsKeywordsPredicate(
+                Arrays.asList("Benson", "Carl")));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+        expectedModel.deletePerson(CARL);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        assertCommandSuccess(command, model, String.format(DeleteAllCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_noMatches_deletesNoOne() {
+        DeleteAllCommand command = new DeleteAllCommand(new NameContainsKeywordsPredicate(Arrays.asList("Zed")));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(command, model, String.format(DeleteAllCommand.MESSAGE_SUCCESS, 0), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        DeleteAllCommand deleteDisplayedCommand = new DeleteAllCommand();
+        DeleteAllCommand deleteAliceCommand = new DeleteAllCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        assertTrue(deleteDisplayedCommand.equals(deleteDisplayedCommand));
+        assertTrue(deleteDisplayedCommand.equals(new DeleteAllCommand()));
+        assertTrue(deleteAliceCommand.equals(new DeleteAllCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice")))));
+        assertFalse(deleteDisplayedCommand.equals(1));
+        assertFalse(deleteDisplayedCommand.equals(null));
+        assertFalse(deleteDisplayedCommand.equals(deleteAliceCommand));
+    }
+
+    /**
+     * Updates {@code model}'s filtered list to show no one.
+     */
+    private void showNoPerson(Model model) {
+        model.updateFilteredPersonList(p -> false);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.storage.CompressionFormat;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class DiffCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("backup.json");
+        new JsonAddressBookStorage(filePath, CompressionFormat.GZIP).saveAddressBook(getTypicalAddressBook());
+    }
+
+    @Test
+    public void execute_unchanged_reportsNoChanges() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(new DiffCommand(filePath), model,
+                String.format(DiffCommand.MESSAGE_NO_CHANGES, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_changed_reportsEachChange() {
+        model.addPerson(AMY);
+        model.deletePerson(ALICE);
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("11111111").withTags("friends").build());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(DiffCommand.MESSAGE_CHANGES, filePath, 1, 1, 1)
+                + "\n+ " + AMY.getName()
+                + "\n- " + ALICE.getName()
+                + "\n~ " + BENSON.getName() + ": phone 98765432 -> 11111111, tags [friends, owesMoney] -> [friends]";
+        assertCommandSuccess(new DiffCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = testFolder.resolve("missing.json");
+        assertCommandFailure(new DiffCommand(missingFile), model,
+                String.format(DiffCommand.MESSAGE_FILE_NOT_FOUND, missingFile));
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Files.writeString(filePath, "{ \"persons\": [ { \"name\": \"Bad*Name\" } ] }");
+        assertCommandFailure(new DiffCommand(filePath), model,
+                String.format(DiffCommand.MESSAGE_READ_ERROR, filePath, Name.MESSAGE_CONSTRAINTS));
+    }
+
+    @Test
+    public void equals() {
+        DiffCommand diffFirstCommand = new DiffCommand(Paths.get("first.json"));
+
+        // same object -> returns true
+        assertTrue(diffFirstCommand.equals(diffFirstCommand));
+
+        // same values -> returns true
+        assertTrue(diffFirstCommand.equals(new DiffCommand(Paths.get("first.json"))));
+
+        // different types -> returns false
+        assertFalse(diffFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(diffFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(diffFirstCommand.equals(new DiffCommand(Paths.get("second.json"))));
+    }
+}
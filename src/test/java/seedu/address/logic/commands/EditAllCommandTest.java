@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class EditAllCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_editsDisplayedPersons() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB).build();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withPhone(VALID_PHONE_BOB).build());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+
+        assertCommandSuccess(new EditAllCommand(descriptor), model,
+                String.format(EditAllCommand.MESSAGE_SUCCESS, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_query_editsMatchingPersonsOnly() {
+        // Benson and Carl are the only persons named in the query, and Benson already has the tag
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags("owesMoney", "friends").build();
+        EditAllCommand command = new EditAllCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Benson", "Carl")), descriptor);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Person editedCarl = new PersonBuilder(CARL).withTags("owesMoney", "friends").build();
+        expectedModel.setPerson(CARL, editedCarl);
+
+        assertCommandSuccess(command, model, String.format(EditAllCommand.MESSAGE_SUCCESS, 1), expectedModel);
+    }
+
+    @Test
+    public void constructor_nameEdited_throwsIllegalArgumentException() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        assertThrows(IllegalArgumentException.class, EditAllCommand.MESSAGE_NAME_EDITED, () ->
+                new EditAllCommand(descriptor));
+    }
+
+    @Test
+    public void equals() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_FRIEND).build();
+        EditAllCommand editAllCommand = new EditAllCommand(descriptor);
+
+        assertTrue(editAllCommand.equals(editAllCommand));
+        assertTrue(editAllCommand.equals(new EditAllCommand(new EditPersonDescriptorBuilder()
+                .withTags(VALID_TAG_FRIEND).build())));
+        assertFalse(editAllCommand.equals(1));
+        assertFalse(editAllCommand.equals(null));
+        assertFalse(editAllCommand.equals(new EditAllCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice")), descriptor)));
+        assertFalse(editAllCommand.equals(new EditAllCommand(new EditPersonDescriptorBuilder()
+                .withPhone(VALID_PHONE_BOB).build())));
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonReader;
+import seedu.address.storage.VCardPersonReader;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_exportsDisplayedPersons() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        Path filePath = testFolder.resolve("contacts.vcf");
+
+        assertCommandSuccess(new ExportCommand(filePath), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, filePath), expectedModel);
+        assertEquals(List.of(ALICE), VCardPersonReader.read(filePath).getPersons());
+    }
+
+    @Test
+    public void execute_largeList_exportsSnapshotInBackground() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+        List<String> progress = new CopyOnWriteArrayList<>();
+
+        CommandResult result = new ExportCommand(filePath, 1).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, persons.size(), filePath),
+                result.getFeedbackToUser());
+        BackgroundTask task = result.getBackgroundTask().get();
+        task.setProgressListener(progress::add);
+
+        // the export is of the persons displayed when the command was executed
+        model.deletePerson(ALICE);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, persons.size(), filePath),
+                task.getResult().get());
+        assertEquals(persons, CsvPersonReader.read(filePath).getPersons());
+        assertTrue(progress.size() <= persons.size());
+    }
+
+    @Test
+    public void execute_unwritableFileInBackground_failsTask() throws Exception {
+        Path filePath = testFolder.resolve("contacts.json");
+        Files.createDirectories(filePath.resolve("directory"));
+
+        BackgroundTask task = new ExportCommand(filePath, 0).execute(model).getBackgroundTask().get();
+        assertTrue(task.getResult().handle((feedback, error) -> error instanceof CommandException).get());
+    }
+
+    @Test
+    public void execute_cancelled_fileNotWritten() {
+        Path filePath = testFolder.resolve("contacts.csv");
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.cancel();
+
+        assertThrows(CancellationException.class, () ->
+                new ExportCommand(filePath).execute(model, cancellationToken));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirstCommand = new ExportCommand(Paths.get("first.vcf"));
+        ExportCommand exportSecondCommand = new ExportCommand(Paths.get("second.vcf"));
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportCommand(Paths.get("first.vcf"))));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportFirstCommand.equals(exportSecondCommand));
+
+        // different background threshold -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportCommand(Paths.get("first.vcf"), 1)));
+    }
+}
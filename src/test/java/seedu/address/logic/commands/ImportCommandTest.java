@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.VCardPersonWriter;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,tags\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_newPersons_addsAllAtOnce() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        Files.writeString(filePath, HEADER + toRow(AMY) + toRow(BOB));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_duplicateAndInvalidRows_reportsThem() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        Files.writeString(filePath, HEADER + toRow(ALICE) + toRow(AMY) + "Hans,12,hans@example.com,street,\n"
+                + toRow(AMY));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath)
+                + String.format(ImportCommand.MESSAGE_ROW_ERRORS, 3)
+                + "\nLine 2: " + ImportCommand.MESSAGE_DUPLICATE_PERSON
+                + "\nLine 4: " + Phone.MESSAGE_CONSTRAINTS
+                + "\nLine 5: " + String.format(ImportCommand.MESSAGE_DUPLICATE_ROW, 3);
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_vCardFile_addsAllAtOnce() throws Exception {
+        Path filePath = testFolder.resolve("contacts.vcf");
+        VCardPersonWriter.write(List.of(AMY, BOB), filePath);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        String expectedMessage = String.format(ImportCommand.MESSAGE_READ_ERROR, filePath, filePath);
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    private static String toRow(Person person) {
+        StringBuilder tags = new StringBuilder();
+        person.getTags().forEach(tag -> tags.append(tag.tagName).append(' '));
+        return String.join(",", person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                "\"" + person.getAddress().value + "\"", tags.toString()) + "\n";
+    }
+}
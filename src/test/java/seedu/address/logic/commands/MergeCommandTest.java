@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ConflictPolicy;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class MergeCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Person theirAlice = new PersonBuilder(ALICE).withPhone("11111111").withTags("colleagues").build();
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("team.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(
+                new AddressBookBuilder().withPerson(theirAlice).withPerson(BENSON).withPerson(AMY).build());
+    }
+
+    @Test
+    public void execute_keepOurs_addsNewPersonsOnly() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+
+        assertCommandSuccess(new MergeCommand(filePath, ConflictPolicy.OURS), model,
+                String.format(MergeCommand.MESSAGE_SUCCESS, filePath, 1, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_keepTheirs_replacesConflictingPersons() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, theirAlice);
+        expectedModel.addPerson(AMY);
+
+        assertCommandSuccess(new MergeCommand(filePath, ConflictPolicy.THEIRS), model,
+                String.format(MergeCommand.MESSAGE_SUCCESS, filePath, 1, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_unionOfTags_keepsOurDetailsWithAllTags() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withTags("friends", "colleagues").build());
+        expectedModel.addPerson(AMY);
+
+        assertCommandSuccess(new MergeCommand(filePath, ConflictPolicy.UNION), model,
+                String.format(MergeCommand.MESSAGE_SUCCESS, filePath, 1, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = testFolder.resolve("missing.json");
+        assertCommandFailure(new MergeCommand(missingFile, ConflictPolicy.OURS), model,
+                String.format(MergeCommand.MESSAGE_FILE_NOT_FOUND, missingFile));
+    }
+
+    @Test
+    public void equals() {
+        MergeCommand mergeFirstCommand = new MergeCommand(Paths.get("first.json"), ConflictPolicy.OURS);
+
+        // same object -> returns true
+        assertTrue(mergeFirstCommand.equals(mergeFirstCommand));
+
+        // same values -> returns true
+        assertTrue(mergeFirstCommand.equals(new MergeCommand(Paths.get("first.json"), ConflictPolicy.OURS)));
+
+        // different types -> returns false
+        assertFalse(mergeFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(mergeFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(mergeFirstCommand.equals(new MergeCommand(Paths.get("second.json"), ConflictPolicy.OURS)));
+
+        // different policy -> returns false
+        assertFalse(mergeFirstCommand.equals(new MergeCommand(Paths.get("first.json"), ConflictPolicy.UNION)));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.AddCommandParser;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_script_allCommandsExecuted() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB)));
+
+        CommandResult result = new RunCommand(script, parser).execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        assertEquals(expectedModel, model);
+        assertTrue(result.getFeedbackToUser().startsWith("Executed 2 commands in "));
+    }
+
+    @Test
+    public void execute_commandOfCallersRegistry_executed() throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(PersonUtil.getAddCommand(AMY).replaceFirst(AddCommand.COMMAND_WORD,
+                "insert")));
+        CommandRegistry registry = CommandRegistry.createDefault();
+        registry.register("insert", AddCommandParser::new);
+
+        new AddressBookParser(registry).parseCommand(RunCommand.COMMAND_WORD + " " + script).execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_fileNotFound_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(script, parser), model,
+                String.format(RunCommand.MESSAGE_FILE_NOT_FOUND, script));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("script.txt"), parser);
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("script.txt"), parser)));
+        assertFalse(runCommand.equals(1));
+        assertFalse(runCommand.equals(null));
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"), parser)));
+    }
+}
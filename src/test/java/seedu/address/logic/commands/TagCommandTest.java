@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagCommandTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+    private static final Tag FRIEND = new Tag("friend");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_noOldTags_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TagCommand(Set.of(), FRIEND));
+    }
+
+    @Test
+    public void execute_rename_retagsTaggedPersons() {
+        // Alice, Benson and Daniel are tagged friends
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withTags("friend").build());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withTags("owesMoney", "friend").build());
+        expectedModel.setPerson(DANIEL, new PersonBuilder(DANIEL).withTags("friend").build());
+
+        assertCommandSuccess(new TagCommand(Set.of(FRIENDS), FRIEND), model,
+                String.format(TagCommand.MESSAGE_RENAMED, FRIENDS, FRIEND, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_merge_retagsEachTaggedPersonOnce() {
+        Set<Tag> oldTags = new LinkedHashSet<>(List.of(FRIENDS, OWES_MONEY));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withTags("friend").build());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withTags("friend").build());
+        expectedModel.setPerson(DANIEL, new PersonBuilder(DANIEL).withTags("friend").build());
+
+        assertCommandSuccess(new TagCommand(oldTags, FRIEND), model,
+                String.format(TagCommand.MESSAGE_MERGED, FRIENDS + ", " + OWES_MONEY, FRIEND, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_mergeIntoOneOfTheTags_leavesPersonsWithOnlyThatTag() {
+        // Alice and Daniel are tagged friends only, so only Benson changes
+        Set<Tag> oldTags = new LinkedHashSet<>(List.of(FRIENDS, OWES_MONEY));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withTags("friends").build());
+
+        assertCommandSuccess(new TagCommand(oldTags, FRIENDS), model,
+                String.format(TagCommand.MESSAGE_MERGED, FRIENDS + ", " + OWES_MONEY, FRIENDS, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_untaggedTag_throwsCommandException() {
+        Tag enemies = new Tag("enemies");
+        assertCommandFailure(new TagCommand(Set.of(enemies), FRIEND), model,
+                String.format(TagCommand.MESSAGE_TAG_NOT_FOUND, enemies));
+    }
+
+    @Test
+    public void equals() {
+        TagCommand renameCommand = new TagCommand(Set.of(FRIENDS), FRIEND);
+
+        assertTrue(renameCommand.equals(renameCommand));
+        assertTrue(renameCommand.equals(new TagCommand(Set.of(new Tag("friends")), new Tag("friend"))));
+        assertFalse(renameCommand.equals(1));
+        assertFalse(renameCommand.equals(null));
+        assertFalse(renameCommand.equals(new TagCommand(Set.of(FRIENDS, OWES_MONEY), FRIEND)));
+        assertFalse(renameCommand.equals(new TagCommand(Set.of(FRIENDS), OWES_MONEY)));
+    }
+}
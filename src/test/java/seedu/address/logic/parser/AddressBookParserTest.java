@@ -7,8 +7,10 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -16,15 +18,23 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DiffCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ConflictPolicy;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -82,6 +92,43 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " contacts.vcf");
+        assertEquals(new ExportCommand(Paths.get("contacts.vcf")), command);
+    }
+
+    @Test
+    public void parseCommand_diff() throws Exception {
+        DiffCommand command = (DiffCommand) parser.parseCommand(DiffCommand.COMMAND_WORD + " backup.json");
+        assertEquals(new DiffCommand(Paths.get("backup.json")), command);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt");
+        assertEquals(new RunCommand(Paths.get("script.txt"), parser), command);
+    }
+
+    @Test
+    public void parseCommand_tag() throws Exception {
+        TagCommand command = (TagCommand) parser.parseCommand(TagCommand.COMMAND_WORD + " rename friends friend");
+        assertEquals(new TagCommand(Set.of(new Tag("friends")), new Tag("friend")), command);
+    }
+
+    @Test
+    public void parseCommand_merge() throws Exception {
+        MergeCommand command = (MergeCommand) parser.parseCommand(
+                MergeCommand.COMMAND_WORD + " team.json policy/union");
+        assertEquals(new MergeCommand(Paths.get("team.json"), ConflictPolicy.UNION), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " contacts.csv");
+        assertEquals(new ImportCommand(Paths.get("contacts.csv")), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -98,4 +145,19 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+    @Test
+    public void parseCommand_commandWordFollowedByOtherWhitespace_argumentsParsed() throws Exception {
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), parser.parseCommand(DeleteCommand.COMMAND_WORD
+                + "\t" + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_uniquePrefixesAllowed_abbreviatedCommandParsed() throws Exception {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        registry.setUniquePrefixesAllowed(true);
+        AddressBookParser abbreviatingParser = new AddressBookParser(registry);
+        assertTrue(abbreviatingParser.parseCommand("li") instanceof ListCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> abbreviatingParser.parseCommand("e"));
+    }
+
 }
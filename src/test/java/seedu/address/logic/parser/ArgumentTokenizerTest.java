@@ -136,6 +136,25 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixMatched() {
+        Prefix dashTag = new Prefix("-tag");
+        String argsString = "SomePreambleString -tag tag value -t dashT-Value -tagged";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTag);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashTag, "tag value", "ged");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognized() {
+        String argsString = "SomePreambleString\tp/not a value\n-t dashT-Value p/pSlash value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "SomePreambleString\tp/not a value\n-t dashT-Value");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
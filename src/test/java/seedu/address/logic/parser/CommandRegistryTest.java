@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<Command> listParser = arguments -> new ListCommand();
+    private final Parser<Command> clearParser = arguments -> new ClearCommand();
+    private final Parser<Command> exitParser = arguments -> new ExitCommand();
+
+    @Test
+    public void getParser_registeredCommandWordOrAlias_returnsParser() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", () -> listParser, "ls");
+
+        assertSame(listParser, registry.getParser("list").get());
+        assertSame(listParser, registry.getParser("ls").get());
+        assertFalse(registry.getParser("lis").isPresent());
+        assertFalse(registry.getParser("LIST").isPresent());
+        assertFalse(registry.getParser("unknown").isPresent());
+    }
+
+    @Test
+    public void getParser_parserCreatedOnceWhenFirstUsed() {
+        AtomicInteger createdCount = new AtomicInteger();
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", () -> {
+            createdCount.incrementAndGet();
+            return arguments -> new ListCommand();
+        });
+        assertEquals(0, createdCount.get());
+
+        Parser<? extends Command> parser = registry.getParser("list").get();
+        assertSame(parser, registry.getParser("list").get());
+        assertEquals(1, createdCount.get());
+    }
+
+    @Test
+    public void getParser_uniquePrefixesAllowed_returnsParserOfOnlyMatchingCommand() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", () -> listParser);
+        registry.register("clear", () -> clearParser, "cls");
+        registry.register("exit", () -> exitParser, "exterminate");
+        registry.setUniquePrefixesAllowed(true);
+
+        assertSame(listParser, registry.getParser("l").get());
+        assertSame(listParser, registry.getParser("lis").get());
+        assertSame(clearParser, registry.getParser("c").get());
+        assertSame(clearParser, registry.getParser("cl").get());
+        assertSame(exitParser, registry.getParser("ext").get());
+
+        // prefixes of other commands, and words that are not prefixes, are not matched
+        registry.register("lister", () -> clearParser);
+        assertFalse(registry.getParser("lis").isPresent());
+        assertSame(listParser, registry.getParser("list").get());
+        assertSame(clearParser, registry.getParser("liste").get());
+        assertFalse(registry.getParser("lists").isPresent());
+    }
+
+    @Test
+    public void getParser_uniquePrefixesNotAllowed_returnsEmpty() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", () -> listParser);
+        assertFalse(registry.getParser("li").isPresent());
+    }
+
+    @Test
+    public void createDefault_registersBuiltInCommands() throws Exception {
+        CommandRegistry registry = CommandRegistry.createDefault();
+        assertTrue(registry.getParser("list").get().parse("") instanceof ListCommand);
+        assertTrue(registry.getParser("clear").get().parse(" 3") instanceof ClearCommand);
+    }
+}
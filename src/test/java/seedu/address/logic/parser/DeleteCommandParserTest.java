@@ -5,9 +5,13 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.DeleteAllCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -25,8 +29,17 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_all_returnsDeleteAllCommand() {
+        assertParseSuccess(parser, " all ", new DeleteAllCommand());
+        assertParseSuccess(parser, " all Alice \t Bob", new DeleteAllCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"))));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "allx", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                DeleteCommand.MESSAGE_USAGE));
     }
 }
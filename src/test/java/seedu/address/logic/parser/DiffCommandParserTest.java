@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DiffCommand;
+
+public class DiffCommandParserTest {
+
+    private DiffCommandParser parser = new DiffCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDiffCommand() {
+        assertParseSuccess(parser, " data/backup.json ", new DiffCommand(Paths.get("data", "backup.json")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DiffCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+    }
+}
@@ -31,14 +31,18 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.EditAllCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -208,4 +212,21 @@ public class EditCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_all_success() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags(VALID_TAG_FRIEND).build();
+        assertParseSuccess(parser, " all" + TAG_DESC_FRIEND, new EditAllCommand(descriptor));
+
+        descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_AMY).build();
+        assertParseSuccess(parser, " all Alice Bob" + PHONE_DESC_AMY, new EditAllCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), descriptor));
+    }
+
+    @Test
+    public void parse_allWithNameOrNoField_failure() {
+        assertParseFailure(parser, " all" + NAME_DESC_AMY + PHONE_DESC_AMY, EditAllCommand.MESSAGE_NAME_EDITED);
+        assertParseFailure(parser, " all Alice", EditCommand.MESSAGE_NOT_EDITED);
+        assertParseFailure(parser, " allx" + PHONE_DESC_AMY, MESSAGE_INVALID_FORMAT);
+    }
 }
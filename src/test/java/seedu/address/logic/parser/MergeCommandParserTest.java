@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.model.ConflictPolicy;
+
+public class MergeCommandParserTest {
+
+    private MergeCommandParser parser = new MergeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMergeCommand() {
+        assertParseSuccess(parser, " data/team.json",
+                new MergeCommand(Paths.get("data", "team.json"), ConflictPolicy.OURS));
+        assertParseSuccess(parser, " data/team.json policy/theirs",
+                new MergeCommand(Paths.get("data", "team.json"), ConflictPolicy.THEIRS));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " policy/union",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " team.json policy/mine", ConflictPolicy.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -193,4 +195,18 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseAllKeywords_notAll_returnsEmpty() {
+        assertEquals(Optional.empty(), ParserUtil.parseAllKeywords(""));
+        assertEquals(Optional.empty(), ParserUtil.parseAllKeywords("1"));
+        assertEquals(Optional.empty(), ParserUtil.parseAllKeywords("allx"));
+        assertEquals(Optional.empty(), ParserUtil.parseAllKeywords("alice all"));
+    }
+
+    @Test
+    public void parseAllKeywords_all_returnsKeywords() {
+        assertEquals(Optional.of(List.of()), ParserUtil.parseAllKeywords("  all  "));
+        assertEquals(Optional.of(Arrays.asList("alice", "bob")), ParserUtil.parseAllKeywords(" all alice \t bob "));
+    }
 }
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.model.tag.Tag;
+
+public class TagCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE);
+
+    private TagCommandParser parser = new TagCommandParser();
+
+    @Test
+    public void parse_rename_success() {
+        assertParseSuccess(parser, " rename friends  friend ",
+                new TagCommand(Set.of(new Tag("friends")), new Tag("friend")));
+    }
+
+    @Test
+    public void parse_merge_success() {
+        assertParseSuccess(parser, " merge colleagues coworkers INTO work",
+                new TagCommand(Set.of(new Tag("colleagues"), new Tag("coworkers")), new Tag("work")));
+        assertParseSuccess(parser, " merge a into b",
+                new TagCommand(Set.of(new Tag("a")), new Tag("b")));
+
+        // the last INTO separates the new tag
+        assertParseSuccess(parser, " merge INTO a INTO b",
+                new TagCommand(Set.of(new Tag("INTO"), new Tag("a")), new Tag("b")));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " rename friends", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " rename a b c", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " merge a b", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " merge INTO b", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " retag a b", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " rename friends best*friend", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookDiffTest {
+
+    @Test
+    public void of_samePersons_isEmpty() {
+        assertTrue(AddressBookDiff.of(getTypicalPersons(), getTypicalPersons()).isEmpty());
+    }
+
+    @Test
+    public void of_changedPersons_matchesByIdentity() {
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        AddressBookDiff diff = AddressBookDiff.of(Arrays.asList(ALICE, BENSON, CARL),
+                Arrays.asList(BOB, editedBenson, ALICE));
+
+        assertEquals(new AddressBookDiff(List.of(BOB), List.of(CARL),
+                List.of(new AddressBookDiff.Edit(BENSON, editedBenson))), diff);
+    }
+
+    @Test
+    public void applyDiff_changedPersons_keepsUnchangedPersons() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        addressBook.getPersonIndex();
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> updated = Arrays.asList(ALICE, editedBenson, BOB);
+
+        addressBook.applyDiff(AddressBookDiff.of(addressBook.getPersonList(), updated));
+        assertEquals(updated, addressBook.getPersonList());
+        assertEquals(PersonIndex.of(updated), addressBook.getPersonIndex());
+    }
+}
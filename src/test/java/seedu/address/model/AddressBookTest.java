@@ -7,8 +7,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -16,8 +18,6 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -83,18 +83,42 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getPersonIndex_afterChanges_matchesRebuiltIndex() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.getPersonIndex();
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build());
+        addressBook.addPerson(ALICE);
+
+        assertEquals(PersonIndex.of(addressBook.getPersonList()), addressBook.getPersonIndex());
+    }
+
+    @Test
+    public void setPersonIndex_personsChangedSinceVersion_returnsFalse() {
+        long version = addressBook.getVersion();
+        PersonIndex staleIndex = PersonIndex.of(addressBook.getPersonList());
+        addressBook.addPerson(ALICE);
+
+        assertFalse(addressBook.setPersonIndex(staleIndex, version));
+        assertFalse(addressBook.hasPersonIndex());
+        assertTrue(addressBook.setPersonIndex(PersonIndex.of(addressBook.getPersonList()), addressBook.getVersion()));
+        assertTrue(addressBook.hasPersonIndex());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
     private static class AddressBookStub implements ReadOnlyAddressBook {
-        private final ObservableList<Person> persons = FXCollections.observableArrayList();
+        private final List<Person> persons;
 
         AddressBookStub(Collection<Person> persons) {
-            this.persons.setAll(persons);
+            this.persons = new ArrayList<>(persons);
         }
 
         @Override
-        public ObservableList<Person> getPersonList() {
+        public List<Person> getPersonList() {
             return persons;
         }
     }
@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ConflictPolicyTest {
+
+    private final Person theirAlice = new PersonBuilder(ALICE).withPhone("11111111").withTags("colleagues").build();
+
+    @Test
+    public void resolve() {
+        assertSame(ALICE, ConflictPolicy.OURS.resolve(ALICE, theirAlice));
+        assertSame(theirAlice, ConflictPolicy.THEIRS.resolve(ALICE, theirAlice));
+        assertEquals(new PersonBuilder(ALICE).withTags("friends", "colleagues").build(),
+                ConflictPolicy.UNION.resolve(ALICE, theirAlice));
+
+        // their tags are all ours -> ours kept
+        assertSame(ALICE, ConflictPolicy.UNION.resolve(ALICE, new PersonBuilder(ALICE).withTags().build()));
+    }
+
+    @Test
+    public void merge_conflictingPersons_resolvedByPolicy() {
+        List<Person> ours = Arrays.asList(ALICE, BENSON);
+        List<Person> theirs = Arrays.asList(AMY, theirAlice, BENSON);
+
+        assertEquals(new AddressBookDiff(List.of(AMY), List.of(), List.of()),
+                ConflictPolicy.OURS.merge(ours, theirs));
+        assertEquals(new AddressBookDiff(List.of(AMY), List.of(), List.of(new AddressBookDiff.Edit(ALICE, theirAlice))),
+                ConflictPolicy.THEIRS.merge(ours, theirs));
+    }
+
+    @Test
+    public void of() {
+        assertEquals(Optional.of(ConflictPolicy.UNION), ConflictPolicy.of(" Union "));
+        assertEquals(Optional.empty(), ConflictPolicy.of("mine"));
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.CancellationToken;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private static final Predicate<Person> IS_FRIEND = person -> person.getTags().contains(new Tag("friends"));
+
+    private static final Person FRIENDLY_AMY = new PersonBuilder(AMY).withTags("friends").build();
+
+    private final UniquePersonList source = new UniquePersonList();
+    private final List<PersonListChange> changes = new ArrayList<>();
+    private FilteredPersonList filteredPersons;
+    private List<Person> replayedPersons;
+
+    @BeforeEach
+    public void setUp() {
+        source.setPersons(getTypicalPersons());
+        filteredPersons = new FilteredPersonList(source.asUnmodifiableList(), IS_FRIEND);
+        source.addListener(filteredPersons);
+        filteredPersons.addListener(changes::add);
+        replayedPersons = new ArrayList<>(filteredPersons);
+    }
+
+    @Test
+    public void constructor_filtersSource() {
+        assertEquals(List.of(ALICE, BENSON, DANIEL), filteredPersons);
+    }
+
+    @Test
+    public void onChanged_matchingPersonAdded_reportsOnlyMatchingPersons() {
+        source.add(HOON);
+        assertEquals(List.of(), changes);
+
+        source.addAll(List.of(FRIENDLY_AMY, BOB));
+        assertEquals(List.of(new PersonListChange(3, List.of(), List.of(FRIENDLY_AMY))), changes);
+        assertUpToDate();
+    }
+
+    @Test
+    public void onChanged_personEditedIntoAndOutOfFilter_updatesView() {
+        Person unfriendedBenson = new PersonBuilder(BENSON).withTags("owesMoney").build();
+        source.setPerson(BENSON, unfriendedBenson);
+        assertEquals(List.of(new PersonListChange(1, List.of(BENSON), List.of())), changes);
+
+        Person friendlyCarl = new PersonBuilder(CARL).withTags("friends").build();
+        source.setPerson(CARL, friendlyCarl);
+        assertEquals(List.of(ALICE, friendlyCarl, DANIEL), filteredPersons);
+        assertUpToDate();
+    }
+
+    @Test
+    public void onChanged_personsRemovedAndReplaced_updatesView() {
+        source.remove(ALICE);
+        source.removeAll(List.of(CARL, DANIEL));
+        Person editedBenson = new PersonBuilder(BENSON).withTags("friends", VALID_TAG_FRIEND).build();
+        source.applyAll(List.of(ELLE), Map.of(BENSON, editedBenson), List.of(FRIENDLY_AMY, HOON));
+        assertEquals(List.of(editedBenson, FRIENDLY_AMY), filteredPersons);
+        assertUpToDate();
+    }
+
+    @Test
+    public void onChanged_manyRanges_refiltersInOneChange() {
+        List<Person> manyPersons = new ArrayList<>();
+        for (int i = 0; i < FilteredPersonList.MAX_INCREMENTAL_RANGES * 3; i++) {
+            manyPersons.add(new PersonBuilder().withName("Person " + i).withTags(i % 3 == 0 ? "friends" : "colleagues")
+                    .build());
+        }
+        source.addAll(manyPersons);
+        changes.clear();
+        replayedPersons = new ArrayList<>(filteredPersons);
+
+        List<Person> everyOtherPerson = new ArrayList<>();
+        for (int i = 0; i < manyPersons.size(); i += 2) {
+            everyOtherPerson.add(manyPersons.get(i));
+        }
+        source.removeAll(everyOtherPerson);
+        assertEquals(1, changes.size());
+        assertUpToDate();
+    }
+
+    @Test
+    public void setPredicate_reportsWholeViewReplaced() {
+        filteredPersons.setPredicate(person -> person.equals(CARL));
+        assertEquals(List.of(CARL), filteredPersons);
+        assertEquals(List.of(new PersonListChange(0, List.of(ALICE, BENSON, DANIEL), List.of(CARL))), changes);
+    }
+
+    @Test
+    public void setPredicate_cancelled_viewUnchanged() {
+        CancellationToken cancellationToken = new CancellationToken();
+        cancellationToken.cancel();
+        assertThrows(CancellationException.class, () ->
+                filteredPersons.setPredicate(person -> person.equals(CARL), cancellationToken));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), filteredPersons);
+        assertEquals(IS_FRIEND, filteredPersons.getPredicate());
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> filteredPersons.remove(0));
+    }
+
+    /**
+     * Asserts that the view matches the source filtered from scratch, and that replaying the reported changes
+     * brings a copy of the view up to date.
+     */
+    private void assertUpToDate() {
+        List<Person> expectedPersons = source.asUnmodifiableList().stream().filter(filteredPersons.getPredicate())
+                .collect(Collectors.toList());
+        assertEquals(expectedPersons, filteredPersons);
+
+        for (PersonListChange change : changes) {
+            for (PersonListChange.Range range : change.getRanges()) {
+                List<Person> replaced = replayedPersons.subList(range.getFrom(),
+                        range.getFrom() + range.getRemoved().size());
+                assertEquals(range.getRemoved(), replaced);
+                replaced.clear();
+                replaced.addAll(range.getAdded());
+            }
+        }
+        assertEquals(expectedPersons, replayedPersons);
+    }
+}
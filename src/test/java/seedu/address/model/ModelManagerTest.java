@@ -7,16 +7,23 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -72,6 +79,21 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void updateAddressBook_changedPersons_appliesOnlyChanges() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        Person editedBenson = new PersonBuilder(BENSON).withTags("updated").build();
+        List<Person> changes = new ArrayList<>();
+        modelManager.addPersonListListener(change -> changes.addAll(change.getAdded()));
+
+        AddressBookDiff diff = modelManager.updateAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(editedBenson).withPerson(CARL).build());
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), modelManager.getAddressBook().getPersonList());
+        assertEquals(List.of(new AddressBookDiff.Edit(BENSON, editedBenson)), diff.getEdits());
+        // the unchanged person is not reported as changed
+        assertEquals(Arrays.asList(editedBenson, CARL), changes);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -88,6 +110,18 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonsWithTag_afterEdit_returnsCurrentlyTaggedPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), modelManager.getPersonsWithTag(new Tag("friends")));
+
+        Person retaggedAlice = new PersonBuilder(ALICE).withTags("colleagues").build();
+        modelManager.setPerson(ALICE, retaggedAlice);
+        assertEquals(Set.of(BENSON), modelManager.getPersonsWithTag(new Tag("friends")));
+        assertEquals(Set.of(retaggedAlice), modelManager.getPersonsWithTag(new Tag("colleagues")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
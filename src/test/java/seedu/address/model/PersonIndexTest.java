@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private final PersonIndex index = PersonIndex.of(getTypicalPersons());
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonIndex.of(null));
+    }
+
+    @Test
+    public void getPersonsWithTag_tagged_returnsTaggedPersons() {
+        assertEquals(Set.of(BENSON), index.getPersonsWithTag(new Tag("owesMoney")));
+        assertTrue(index.getPersonsWithTag(new Tag("enemies")).isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonWithKey_removesKey() {
+        index.remove(BENSON);
+        assertTrue(index.getPersonsWithTag(new Tag("owesMoney")).isEmpty());
+        assertTrue(!index.getTags().contains(new Tag("owesMoney")));
+        assertEquals(Set.of(ALICE, DANIEL), index.getPersonsWithTag(new Tag("friends")));
+    }
+
+    @Test
+    public void add_personWithTags_addedUnderEachTag() {
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("friends", "colleagues").build();
+        index.remove(ALICE);
+        index.add(taggedAlice);
+        assertEquals(Set.of(taggedAlice), index.getPersonsWithTag(new Tag("colleagues")));
+        assertEquals(Set.of(taggedAlice, BENSON, DANIEL), index.getPersonsWithTag(new Tag("friends")));
+    }
+}
@@ -8,10 +8,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +63,122 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, HOON));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, HOON));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void addAll_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableList());
+    }
+
+    @Test
+    public void replaceAll_samePersons_replacesInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, HOON));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedHoon = new PersonBuilder(HOON).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.replaceAll(Map.of(ALICE, editedAlice, HOON, editedHoon));
+        assertEquals(Arrays.asList(editedAlice, BOB, editedHoon), uniquePersonList.asUnmodifiableList());
+    }
+
+    @Test
+    public void replaceAll_manyPersons_replacedInOneChange() {
+        List<Person> persons = new ArrayList<>();
+        Map<Person, Person> replacements = new HashMap<>();
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            if (i % 2 == 0) {
+                Person editedPerson = new PersonBuilder(person).withTags(VALID_TAG_HUSBAND).build();
+                replacements.put(person, editedPerson);
+                expectedPersons.add(editedPerson);
+            } else {
+                expectedPersons.add(person);
+            }
+        }
+        uniquePersonList.setPersons(persons);
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.addListener(change -> changeCount.incrementAndGet());
+
+        uniquePersonList.replaceAll(replacements);
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableList());
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void replaceAll_invalidReplacements_throwsException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replaceAll(Map.of(BOB, BOB)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAll(Map.of(ALICE, BOB)));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesThem() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, HOON));
+        uniquePersonList.removeAll(Arrays.asList(HOON, ALICE));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableList());
+    }
+
+    @Test
+    public void removeAll_existingPersons_reportsRangesOfShortenedList() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, HOON));
+        List<PersonListChange> changes = new ArrayList<>();
+        uniquePersonList.addListener(changes::add);
+
+        uniquePersonList.removeAll(Arrays.asList(HOON, ALICE));
+        assertEquals(List.of(new PersonListChange(List.of(
+                new PersonListChange.Range(0, List.of(ALICE), List.of()),
+                new PersonListChange.Range(1, List.of(HOON), List.of())))), changes);
+    }
+
+    @Test
+    public void applyAll_removeReplaceAndAdd_reportedInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags().build();
+        List<PersonListChange> changes = new ArrayList<>();
+        uniquePersonList.addListener(changes::add);
+
+        uniquePersonList.applyAll(List.of(ALICE), Map.of(BOB, editedBob), List.of(HOON));
+        assertEquals(Arrays.asList(editedBob, HOON), uniquePersonList.asUnmodifiableList());
+        assertEquals(List.of(new PersonListChange(List.of(
+                new PersonListChange.Range(0, List.of(ALICE), List.of()),
+                new PersonListChange.Range(0, List.of(BOB), List.of(editedBob)),
+                new PersonListChange.Range(1, List.of(), List.of(HOON))))), changes);
+    }
+
+    @Test
+    public void applyAll_laterStageFails_listUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags().build();
+        List<PersonListChange> changes = new ArrayList<>();
+        uniquePersonList.addListener(changes::add);
+
+        // the addition clashes with a kept person, after the removal and replacement would have succeeded
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.applyAll(List.of(ALICE), Map.of(BOB, editedBob), List.of(HOON, editedBob)));
+        // the replaced person was removed first
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.applyAll(List.of(BOB), Map.of(BOB, editedBob), List.of()));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableList());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void removeAll_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -163,8 +284,8 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniquePersonList.asUnmodifiableObservableList().remove(0));
+            -> uniquePersonList.asUnmodifiableList().remove(0));
     }
 }
@@ -0,0 +1,107 @@
+package seedu.address.model.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class ValidatorsTest {
+
+    private static final String[] SAMPLE_VALUES = {
+        "", " ", "a", "ab", "abc", "a b", " a", "a ", "12", "123", "1234", "12a", "+123", "peter*",
+        "Capital Tan", "David Roger Jackson Ray Jr 2nd", "^", "\u00e4", "a\tb", "\ta", "a\nb", "a\rb", "a\u2028b",
+        "\u2028a", "a\u0085", "\u0085a", "Blk 456, Den Road, #01-355", "-", "peterjack@example.com", "a@bc",
+        "a@b", "a@b.c", "a@b.cd", "a@a-b", "a@ab-c", "a@a-bc", "a@-ab", "a@ab-", "a@a--bc", "a@ab.", "a@.ab",
+        "a@ab..cd", "a@b.c.de", "a.b@cd", "a..b@cd", ".a@cd", "a.@cd", "a+b_c.d-e@cd", "a_@cd", "@cd", "a@",
+        "a@b@cd", "peter jack@example.com", "peter_jack@very-very-very-long-example.com", "if.you.dream.it_you.can"
+            + ".do.it@example.com", "e1@e2.e3-e4", "a@e1.e2-e3", "peterjack@example_com", "a@b-c-d.ef-g",
+    };
+
+    private static final char[] ALPHABET = {'a', 'Z', '0', '9', ' ', '-', '+', '_', '.', '@', '\t', '\n', '\r',
+        '\u0085', '\u2028', '\u00e9', '#'};
+
+    private static final Validator[] VALIDATORS = {
+        Validators.NAME, Validators.PHONE, Validators.EMAIL, Validators.ADDRESS, Validators.TAG
+    };
+
+    private static final Pattern[] PATTERNS = {
+        Pattern.compile(Name.VALIDATION_REGEX), Pattern.compile(Phone.VALIDATION_REGEX),
+        Pattern.compile(Email.VALIDATION_REGEX), Pattern.compile(Address.VALIDATION_REGEX),
+        Pattern.compile(Tag.VALIDATION_REGEX)
+    };
+
+    @Test
+    public void validate_null_throwsNullPointerException() {
+        for (Validator validator : VALIDATORS) {
+            assertThrows(NullPointerException.class, () -> validator.validate(null));
+        }
+    }
+
+    @Test
+    public void isValid_sampleValues_agreesWithValidationRegex() {
+        for (String value : SAMPLE_VALUES) {
+            assertAgreesWithValidationRegex(value);
+        }
+    }
+
+    @Test
+    public void isValid_randomValues_agreesWithValidationRegex() {
+        Random random = new Random(2103);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                value.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            values.add(value.toString());
+        }
+        values.forEach(this::assertAgreesWithValidationRegex);
+    }
+
+    @Test
+    public void validate_invalidValues_returnsViolatedConstraint() {
+        assertEquals(ValidationResult.EMPTY, Validators.NAME.validate(""));
+        assertEquals(ValidationResult.LEADING_WHITESPACE, Validators.NAME.validate(" Alice"));
+        assertEquals(ValidationResult.ILLEGAL_CHARACTER, Validators.NAME.validate("Alice*"));
+
+        assertEquals(ValidationResult.TOO_SHORT, Validators.PHONE.validate("91"));
+        assertEquals(ValidationResult.ILLEGAL_CHARACTER, Validators.PHONE.validate("9011p041"));
+
+        assertEquals(ValidationResult.MISSING_AT, Validators.EMAIL.validate("peterjack.example.com"));
+        assertEquals(ValidationResult.INVALID_LOCAL_PART, Validators.EMAIL.validate("peter..jack@example.com"));
+        assertEquals(ValidationResult.INVALID_DOMAIN, Validators.EMAIL.validate("peterjack@example.c"));
+
+        assertEquals(ValidationResult.LEADING_WHITESPACE, Validators.ADDRESS.validate(" Street"));
+        assertEquals(ValidationResult.LINE_BREAK, Validators.ADDRESS.validate("Street\n2"));
+
+        assertEquals(ValidationResult.ILLEGAL_CHARACTER, Validators.TAG.validate("best friend"));
+    }
+
+    @Test
+    public void validate_validValues_returnsValid() {
+        assertEquals(ValidationResult.VALID, Validators.NAME.validate("Alice Pauline"));
+        assertEquals(ValidationResult.VALID, Validators.PHONE.validate("94351253"));
+        assertEquals(ValidationResult.VALID, Validators.EMAIL.validate("alice@example.com"));
+        assertEquals(ValidationResult.VALID, Validators.ADDRESS.validate("123, Jurong West Ave 6, #08-111"));
+        assertEquals(ValidationResult.VALID, Validators.TAG.validate("friends"));
+    }
+
+    private void assertAgreesWithValidationRegex(String value) {
+        for (int i = 0; i < VALIDATORS.length; i++) {
+            assertEquals(PATTERNS[i].matcher(value).matches(), VALIDATORS[i].isValid(value),
+                    "Disagreement with " + PATTERNS[i] + " on \"" + value + "\"");
+        }
+    }
+}
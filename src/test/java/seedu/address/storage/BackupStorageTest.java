@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+public class BackupStorageTest {
+
+    private static final int FILE_SIZE = 512 << 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private BackupStorage backupStorage;
+    private Path dataFile;
+
+    @BeforeEach
+    public void setUp() {
+        backupStorage = new BackupStorage(testFolder.resolve("backups"),
+                Clock.fixed(Instant.parse("2026-10-19T08:30:00Z"), ZoneOffset.UTC));
+        dataFile = testFolder.resolve("addressbook.json");
+    }
+
+    @Test
+    public void backupAndRestore_roundTrip() throws Exception {
+        byte[] content = randomBytes(FILE_SIZE);
+        Files.write(dataFile, content);
+
+        BackupStorage.Backup backup = backupStorage.backup(dataFile);
+        assertEquals("20261019-083000-000", backup.getId());
+        assertTrue(backup.getChunkCount() > 1);
+        assertEquals(backup.getChunkCount(), backup.getNewChunkCount());
+        assertEquals(FILE_SIZE, backup.getNewChunkBytes());
+
+        Path restored = testFolder.resolve("restored.json");
+        backupStorage.restore(backup.getId(), restored);
+        assertArrayEquals(content, Files.readAllBytes(restored));
+    }
+
+    @Test
+    public void backup_emptyFile_restoresEmptyFile() throws Exception {
+        Files.write(dataFile, new byte[0]);
+        BackupStorage.Backup backup = backupStorage.backup(dataFile);
+        assertEquals(0, backup.getChunkCount());
+
+        Path restored = testFolder.resolve("restored.json");
+        backupStorage.restore(backup.getId(), restored);
+        assertEquals(0, Files.size(restored));
+    }
+
+    @Test
+    public void backup_smallEdit_writesOnlyChangedChunks() throws Exception {
+        byte[] content = randomBytes(FILE_SIZE);
+        Files.write(dataFile, content);
+        BackupStorage.Backup first = backupStorage.backup(dataFile);
+
+        // an insertion shifts everything after it, which content-defined chunks are cut the same way despite
+        byte[] edited = new byte[content.length + 10];
+        System.arraycopy(content, 0, edited, 0, FILE_SIZE / 2);
+        Arrays.fill(edited, FILE_SIZE / 2, FILE_SIZE / 2 + 10, (byte) 'x');
+        System.arraycopy(content, FILE_SIZE / 2, edited, FILE_SIZE / 2 + 10, FILE_SIZE / 2);
+        Files.write(dataFile, edited);
+        BackupStorage.Backup second = backupStorage.backup(dataFile);
+
+        assertTrue(second.getNewChunkCount() <= 2);
+        assertTrue(second.getNewChunkBytes() < 2 * ContentDefinedChunker.MAX_CHUNK_SIZE);
+        assertEquals(List.of(first.getId(), second.getId()), backupStorage.getBackupIds());
+
+        Path restored = testFolder.resolve("restored.json");
+        backupStorage.restore(first.getId(), restored);
+        assertArrayEquals(content, Files.readAllBytes(restored));
+        backupStorage.restore(second.getId(), restored);
+        assertArrayEquals(edited, Files.readAllBytes(restored));
+    }
+
+    @Test
+    public void backup_unchangedFile_writesNoChunks() throws Exception {
+        Files.write(dataFile, randomBytes(FILE_SIZE));
+        backupStorage.backup(dataFile);
+        BackupStorage.Backup second = backupStorage.backup(dataFile);
+        assertEquals(0, second.getNewChunkCount());
+    }
+
+    @Test
+    public void getBackupIds_noBackups_returnsEmptyList() throws Exception {
+        assertTrue(backupStorage.getBackupIds().isEmpty());
+        assertTrue(backupStorage.getLastBackupTime().isEmpty());
+    }
+
+    @Test
+    public void restore_unknownBackup_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+                backupStorage.restore("20260101-000000-000", testFolder.resolve("restored.json")));
+        assertThrows(DataConversionException.class, () ->
+                backupStorage.restore("../addressbook", testFolder.resolve("restored.json")));
+    }
+
+    @Test
+    public void restore_corruptedChunk_throwsDataConversionExceptionAndKeepsFile() throws Exception {
+        Files.write(dataFile, randomBytes(FILE_SIZE));
+        BackupStorage.Backup backup = backupStorage.backup(dataFile);
+
+        Path chunk;
+        try (Stream<Path> files = Files.walk(testFolder.resolve("backups").resolve("chunks"))) {
+            chunk = files.filter(Files::isRegularFile).collect(Collectors.toList()).get(0);
+        }
+        byte[] chunkContent = Files.readAllBytes(chunk);
+        chunkContent[0] ^= 1;
+        Files.write(chunk, chunkContent);
+
+        Path restored = testFolder.resolve("restored.json");
+        Files.write(restored, new byte[] {1, 2, 3});
+        assertThrows(DataConversionException.class, () -> backupStorage.restore(backup.getId(), restored));
+        assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(restored));
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
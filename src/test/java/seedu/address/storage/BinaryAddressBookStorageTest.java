@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("SomeFile.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("CorruptedAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        // flips a bit in the last byte of the last record, just before its checksum and the offset table
+        byte[] bytes = Files.readAllBytes(filePath);
+        int offsetTablePosition = ByteBuffer.wrap(bytes).getInt(bytes.length - Integer.BYTES);
+        bytes[offsetTablePosition - Integer.BYTES - 1] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, binaryAddressBookStorage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_corruptedStringTableCount_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("CorruptedHeader.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // the string table count follows the 4 magic bytes and the 1-byte version
+        byte[] negativeCount = bytes.clone();
+        System.arraycopy(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}, 0, negativeCount, 5, 5);
+        Files.write(filePath, negativeCount);
+        assertThrows(DataConversionException.class, binaryAddressBookStorage::readAddressBook);
+
+        byte[] hugeCount = bytes.clone();
+        System.arraycopy(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}, 0, hugeCount, 5, 5);
+        Files.write(filePath, hugeCount);
+        assertThrows(DataConversionException.class, binaryAddressBookStorage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("NotBinaryAddressBook.bin");
+        Files.writeString(filePath, "not a binary address book");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonSiblingOnly_migratesJsonData() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(original);
+
+        Path filePath = testFolder.resolve("addressbook.bin");
+        ReadOnlyAddressBook migrated = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(migrated));
+        assertTrue(Files.exists(filePath));
+        assertEquals(AddressBookFileFormat.BINARY, AddressBookFileFormat.detect(filePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonContent_readsJsonData() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void jsonReadAddressBook_binarySiblingOnly_migratesBinaryData() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).saveAddressBook(original);
+
+        Path filePath = testFolder.resolve("addressbook.json");
+        ReadOnlyAddressBook migrated = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(migrated));
+        assertEquals(AddressBookFileFormat.JSON, AddressBookFileFormat.detect(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_moveFails_temporaryFileDeleted() throws Exception {
+        // a non-empty directory cannot be replaced by the saved file
+        Path filePath = testFolder.resolve("Directory.bin");
+        Files.createDirectories(filePath.resolve("child"));
+
+        assertThrows(IOException.class, () ->
+                new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook()));
+        assertFalse(Files.exists(testFolder.resolve("Directory.bin.tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(filePath).saveAddressBook(null, filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook(), null));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.PersonImportResult.RowError;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonReaderTest {
+
+    private static final String HEADER = "name,phone,email,address,tags\n";
+    private static final String ALICE_ROW = "Alice Pauline,94351253,alice@example.com,"
+            + "\"123, Jurong West Ave 6, #08-111\",friends\n";
+    private static final String BENSON_ROW = "Benson Meier,98765432,johnd@example.com,"
+            + "\"311, Clementi Ave 2, #02-25\",owesMoney;friends\n";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_validFile_success() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        Files.writeString(filePath, HEADER + ALICE_ROW + BENSON_ROW);
+
+        PersonImportResult result = CsvPersonReader.read(filePath);
+        assertEquals(Arrays.asList(ALICE, BENSON), result.getPersons());
+        assertEquals(List.of(), result.getErrors());
+    }
+
+    @Test
+    public void read_columnsInOtherOrder_success() throws Exception {
+        PersonImportResult result = read("Email,Address,Extra,Name,Phone\r\n"
+                + "alice@example.com,\"123, Jurong West Ave 6, #08-111\",ignored,Alice Pauline,94351253\r\n");
+        assertEquals(List.of(new PersonBuilder(ALICE).withTags().build()), result.getPersons());
+    }
+
+    @Test
+    public void read_invalidRows_reportsLines() throws Exception {
+        PersonImportResult result = read(HEADER + ALICE_ROW + "\n"
+                + "Ha!ns,9482424,hans@example.com,4th street,\n"
+                + "Hans,9482424,hans@example.com\n"
+                + "\"Hans,9482424,hans@example.com,4th street\n"
+                + BENSON_ROW);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), result.getPersons());
+        assertEquals(Arrays.asList(2, 7), Arrays.asList(result.getRows().get(0).getLine(),
+                result.getRows().get(1).getLine()));
+        assertEquals(Arrays.asList(new RowError(4, Name.MESSAGE_CONSTRAINTS),
+                new RowError(5, String.format(ImportedPerson.MISSING_FIELD_MESSAGE_FORMAT, "Address")),
+                new RowError(6, CsvPersonReader.MESSAGE_UNTERMINATED_QUOTE)), result.getErrors());
+    }
+
+    @Test
+    public void read_missingColumn_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> read("name,phone,address\n"));
+        assertThrows(DataConversionException.class, () -> read(""));
+    }
+
+    @Test
+    public void read_largeFile_readsInOrderAcrossChunks() throws Exception {
+        StringBuilder content = new StringBuilder(HEADER);
+        int count = 60000;
+        for (int i = 0; i < count; i++) {
+            content.append("Person ").append(i).append(',').append(10000000 + i)
+                    .append(",person@example.com,\"Blk 1, Road\",tagged\n");
+        }
+        content.append("Person 0,Invalid,person@example.com,Road,\n");
+
+        PersonImportResult result = read(content.toString());
+        assertEquals(count, result.getPersons().size());
+        for (int i = 0; i < count; i += 997) {
+            Person person = result.getPersons().get(i);
+            assertEquals(new Phone(String.valueOf(10000000 + i)), person.getPhone());
+            assertEquals(i + 2, result.getRows().get(i).getLine());
+        }
+        assertEquals(List.of(new RowError(count + 2, Phone.MESSAGE_CONSTRAINTS)), result.getErrors());
+    }
+
+    private PersonImportResult read(String content) throws DataConversionException {
+        return CsvPersonReader.read(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
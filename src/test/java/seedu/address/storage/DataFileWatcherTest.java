@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void start_fileChanged_notifiesListener() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("addressbook.json");
+        Semaphore changes = new Semaphore(0);
+
+        try (DataFileWatcher watcher = new DataFileWatcher(filePath, changes::release)) {
+            watcher.start();
+            Files.writeString(testFolder.resolve("data").resolve("other.json"), "{}");
+            Files.writeString(filePath, "{}");
+            assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+
+            Files.writeString(filePath, "{ \"persons\": [] }");
+            assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void fileStamp_fileChanged_differs() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{}");
+        DataFileWatcher.FileStamp stamp = DataFileWatcher.FileStamp.of(filePath);
+        assertEquals(stamp, DataFileWatcher.FileStamp.of(filePath));
+
+        Files.writeString(filePath, "[]");
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(0));
+        assertNotEquals(stamp, DataFileWatcher.FileStamp.of(filePath));
+    }
+}
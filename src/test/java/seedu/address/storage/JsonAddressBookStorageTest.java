@@ -2,22 +2,31 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +95,80 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_unchangedSinceSaved_skipsValidation() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        byte[] invalidContent = Files.readAllBytes(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"));
+        Files.write(filePath, invalidContent);
+        JsonUtil.saveJsonFile(JsonAddressBookManifest.of(JsonAddressBookManifest.hash(invalidContent)),
+                JsonAddressBookStorage.getManifestPath(filePath));
+
+        // the manifest vouches for the content, so the invalid name is not detected
+        assertEquals(1, new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void readAddressBook_editedSinceSaved_validates() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(filePath, Files.readString(filePath).replace("Alice Pauline", "Alice Paul!ne"));
+        assertThrows(DataConversionException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_manifestOfOtherSchemaVersion_validates() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        byte[] invalidContent = Files.readAllBytes(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"));
+        Files.write(filePath, invalidContent);
+        JsonUtil.saveJsonFile(new JsonAddressBookManifest(JsonSerializableAddressBook.SCHEMA_VERSION + 1,
+                JsonAddressBookManifest.hash(invalidContent)), JsonAddressBookStorage.getManifestPath(filePath));
+
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedManifest_validates() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"), filePath);
+        Files.writeString(JsonAddressBookStorage.getManifestPath(filePath), "not a manifest");
+
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path plainFilePath = testFolder.resolve("Plain.json");
+        new JsonAddressBookStorage(plainFilePath).saveAddressBook(original);
+
+        for (CompressionFormat compression : CompressionFormat.values()) {
+            Path filePath = testFolder.resolve(compression + ".json");
+            new JsonAddressBookStorage(filePath, compression).saveAddressBook(original);
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+                assertEquals(compression, CompressionFormat.detect(in));
+            }
+
+            // compressed files are read regardless of the compression of the storage reading them
+            ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+            assertEquals(original, new AddressBook(readBack));
+            if (compression != CompressionFormat.NONE) {
+                assertTrue(Files.size(filePath) < Files.size(plainFilePath));
+            }
+        }
+    }
+
+    @Test
+    public void readAddressBook_compressedWithoutManifest_validates() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        try (OutputStream out = CompressionFormat.GZIP.encode(Files.newOutputStream(filePath))) {
+            out.write(Files.readAllBytes(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")));
+        }
+
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -107,4 +190,15 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void readPersons_compressedFile_readsEachPerson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath, CompressionFormat.GZIP).saveAddressBook(getTypicalAddressBook());
+
+        List<Person> persons = new ArrayList<>();
+        assertTrue(JsonAddressBookStorage.readPersons(filePath, persons::add));
+        assertEquals(getTypicalAddressBook().getPersonList(), persons);
+        assertFalse(JsonAddressBookStorage.readPersons(testFolder.resolve("missing.json"), persons::add));
+    }
 }
@@ -5,12 +5,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +47,46 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_success() throws Exception {
+        List<JsonAdaptedPerson> jsonPersons = getNumberedPersons(5000);
+        AddressBook expected = new AddressBook();
+        for (JsonAdaptedPerson jsonPerson : jsonPersons) {
+            expected.addPerson(jsonPerson.toModelType());
+        }
+        assertEquals(expected, new JsonSerializableAddressBook(jsonPersons).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidPersonBeforeDuplicate_throwsInvalidPersonException() {
+        List<JsonAdaptedPerson> jsonPersons = getNumberedPersons(5000);
+        jsonPersons.set(3000, new JsonAdaptedPerson("Person 3000", "not a phone", "p3000@example.com", "Street",
+                new ArrayList<>()));
+        jsonPersons.set(4000, jsonPersons.get(10));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(jsonPersons)::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithDuplicateBeforeInvalidPerson_throwsDuplicatePersonException() {
+        List<JsonAdaptedPerson> jsonPersons = getNumberedPersons(5000);
+        jsonPersons.set(2000, jsonPersons.get(10));
+        jsonPersons.set(4000, new JsonAdaptedPerson("Person 4000", "not a phone", "p4000@example.com", "Street",
+                new ArrayList<>()));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                new JsonSerializableAddressBook(jsonPersons)::toModelType);
+    }
+
+    /**
+     * Returns {@code count} valid persons with distinct names.
+     */
+    private List<JsonAdaptedPerson> getNumberedPersons(int count) {
+        List<JsonAdaptedPerson> jsonPersons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jsonPersons.add(new JsonAdaptedPerson("Person " + i, String.valueOf(10000000 + i),
+                    "p" + i + "@example.com", i + " Street", new ArrayList<>()));
+        }
+        return jsonPersons;
+    }
+
 }
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class MappedAddressBookTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path saveTypicalAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        return filePath;
+    }
+
+    @Test
+    public void map_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MappedAddressBook.map(null));
+    }
+
+    @Test
+    public void map_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Files.writeString(filePath, "not a binary address book");
+        assertThrows(DataConversionException.class, () -> MappedAddressBook.map(filePath));
+    }
+
+    @Test
+    public void map_truncatedOffsetTable_throwsDataConversionException() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataConversionException.class, () -> MappedAddressBook.map(filePath));
+    }
+
+    @Test
+    public void map_personCountMismatchesOffsetTable_throwsDataConversionException() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        // the 1-byte person count is just before the first record, whose offset is the first in the offset table
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int firstRecord = buffer.getInt(buffer.getInt(bytes.length - Integer.BYTES));
+        bytes[firstRecord - 1]++;
+        Files.write(filePath, bytes);
+
+        String expectedMessage = new IllegalValueException(BinaryAddressBookCodec.MESSAGE_CORRUPTED_OFFSET_TABLE)
+                .toString();
+        assertThrows(DataConversionException.class, expectedMessage, () -> MappedAddressBook.map(filePath));
+    }
+
+    @Test
+    public void getPerson_validIndex_returnsPerson() throws Exception {
+        MappedAddressBook mappedAddressBook = MappedAddressBook.map(saveTypicalAddressBook()).get();
+        assertEquals(getTypicalPersons().size(), mappedAddressBook.size());
+        assertEquals(BENSON, mappedAddressBook.getPerson(1));
+        assertEquals(ALICE, mappedAddressBook.getPerson(0));
+
+        // decoded persons are cached
+        assertSame(mappedAddressBook.getPerson(1), mappedAddressBook.getPerson(1));
+    }
+
+    @Test
+    public void getPerson_invalidIndex_throwsIndexOutOfBoundsException() throws Exception {
+        MappedAddressBook mappedAddressBook = MappedAddressBook.map(saveTypicalAddressBook()).get();
+        assertThrows(IndexOutOfBoundsException.class, () -> mappedAddressBook.getPerson(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> mappedAddressBook.getPerson(mappedAddressBook.size()));
+    }
+
+    @Test
+    public void getPersonList_lazyView_matchesSnapshot() throws Exception {
+        MappedAddressBook mappedAddressBook = MappedAddressBook.map(saveTypicalAddressBook()).get();
+        assertEquals(getTypicalPersons(), mappedAddressBook.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> mappedAddressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void readFirstPersons_fewerThanSize_returnsFirstPersons() throws Exception {
+        MappedAddressBook mappedAddressBook = MappedAddressBook.map(saveTypicalAddressBook()).get();
+        AddressBook expected = new AddressBook();
+        expected.setPersons(getTypicalPersons().subList(0, 2));
+        assertEquals(expected, mappedAddressBook.readFirstPersons(2));
+        assertEquals(getTypicalAddressBook(), mappedAddressBook.readFirstPersons(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void readAll_validSnapshot_returnsAllPersons() throws Exception {
+        MappedAddressBook mappedAddressBook = MappedAddressBook.map(saveTypicalAddressBook()).get();
+        assertEquals(getTypicalAddressBook(), mappedAddressBook.readAll());
+    }
+
+    @Test
+    public void readAll_corruptedLastRecord_onlyFailsWhenRecordIsDecoded() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        byte[] bytes = Files.readAllBytes(filePath);
+        int offsetTablePosition = ByteBuffer.wrap(bytes).getInt(bytes.length - Integer.BYTES);
+        bytes[offsetTablePosition - Integer.BYTES - 1] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        MappedAddressBook mappedAddressBook = MappedAddressBook.map(filePath).get();
+        assertEquals(ALICE, mappedAddressBook.getPerson(0));
+        assertThrows(DataConversionException.class, () -> mappedAddressBook.getPerson(mappedAddressBook.size() - 1));
+        assertThrows(DataConversionException.class, mappedAddressBook::readAll);
+    }
+
+    @Test
+    public void readAddressBook_mappedStorage_returnsMappedAddressBook() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        ReadOnlyAddressBook readBack = new MappedAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(readBack instanceof MappedAddressBook);
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_mappedStorageJsonContent_readsJsonData() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ReadOnlyAddressBook readBack = new MappedAddressBookStorage(filePath).readAddressBook().get();
+        assertFalse(readBack instanceof MappedAddressBook);
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+}
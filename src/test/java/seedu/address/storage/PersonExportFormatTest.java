@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonExportFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of_fileExtension_returnsFormat() {
+        assertEquals(Optional.of(PersonExportFormat.CSV), PersonExportFormat.of(Paths.get("data", "a.csv")));
+        assertEquals(Optional.of(PersonExportFormat.JSON), PersonExportFormat.of(Paths.get("a.JSON")));
+        assertEquals(Optional.of(PersonExportFormat.VCARD), PersonExportFormat.of(Paths.get("a.vcf")));
+        assertEquals(Optional.empty(), PersonExportFormat.of(Paths.get("a.txt")));
+        assertEquals(Optional.empty(), PersonExportFormat.of(Paths.get("csv")));
+    }
+
+    @Test
+    public void write_csv_readBackByCsvReader() throws Exception {
+        Person quoted = new PersonBuilder().withName("Quoted Person")
+                .withAddress("Blk 1, \"The\" Road").withTags("friends", "colleagues").build();
+        List<Person> persons = List.of(getTypicalPersons().get(0), quoted);
+        Path filePath = testFolder.resolve("contacts.csv");
+
+        PersonExportFormat.CSV.write(persons, filePath);
+        assertEquals(persons, CsvPersonReader.read(filePath).getPersons());
+    }
+
+    @Test
+    public void write_json_readBackAsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("contacts.json");
+
+        PersonExportFormat.JSON.write(getTypicalPersons(), filePath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(
+                new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void write_vCard_readBackByVCardReader() throws Exception {
+        Path filePath = testFolder.resolve("contacts.vcf");
+
+        PersonExportFormat.VCARD.write(getTypicalPersons(), filePath);
+        assertEquals(getTypicalPersons(), VCardPersonReader.read(filePath).getPersons());
+    }
+
+    @Test
+    public void write_existingFile_replacedWithoutTempFile() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        Files.writeString(filePath, "old content that is longer than the new content will be");
+
+        PersonExportFormat.CSV.write(List.of(), filePath);
+        assertEquals("name,phone,email,address,tags\r\n", Files.readString(filePath));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void write_otherExportToSameFile_otherTempFileKept() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        Path otherTempFile = Files.createTempFile(testFolder, "contacts.csv.", ".tmp");
+        Files.writeString(otherTempFile, "partly written by another export");
+
+        PersonExportFormat.CSV.write(getTypicalPersons(), filePath);
+        assertEquals("partly written by another export", Files.readString(otherTempFile));
+    }
+}
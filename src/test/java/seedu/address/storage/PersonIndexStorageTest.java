@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonIndex;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readPersonIndex_missingFile_emptyResult() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(dataFile);
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(new PersonIndexStorage(dataFile)
+                .readPersonIndex(List.of(), addressBookStorage.getContentHash().get()).isPresent());
+    }
+
+    @Test
+    public void readAndSavePersonIndex_unchangedDataFile_success() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage addressBookStorage = new BinaryAddressBookStorage(dataFile);
+        addressBookStorage.saveAddressBook(getTypicalAddressBook());
+        List<Person> persons = addressBookStorage.readAddressBook().get().getPersonList();
+        PersonIndex index = PersonIndex.of(persons);
+
+        PersonIndexStorage storage = new PersonIndexStorage(dataFile);
+        storage.savePersonIndex(index, persons, addressBookStorage.getContentHash().get());
+
+        List<Person> readBack = addressBookStorage.readAddressBook().get().getPersonList();
+        assertEquals(index, storage.readPersonIndex(readBack, addressBookStorage.getContentHash().get()).get());
+    }
+
+    @Test
+    public void readPersonIndex_dataFileChanged_emptyResult() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(dataFile);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBookStorage.saveAddressBook(addressBook);
+        PersonIndexStorage storage = new PersonIndexStorage(dataFile);
+        storage.savePersonIndex(PersonIndex.of(addressBook.getPersonList()), addressBook.getPersonList(),
+                addressBookStorage.getContentHash().get());
+
+        addressBook.addPerson(HOON);
+        addressBookStorage.saveAddressBook(addressBook);
+        assertFalse(storage.readPersonIndex(addressBook.getPersonList(), addressBookStorage.getContentHash().get())
+                .isPresent());
+    }
+
+    @Test
+    public void readPersonIndex_dataFileEditedToSameSize_emptyResult() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(dataFile);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBookStorage.saveAddressBook(addressBook);
+        PersonIndexStorage storage = new PersonIndexStorage(dataFile);
+        storage.savePersonIndex(PersonIndex.of(addressBook.getPersonList()), addressBook.getPersonList(),
+                addressBookStorage.getContentHash().get());
+
+        // edited by another program, keeping the size and the last modified time of the file
+        FileTime lastModifiedTime = Files.getLastModifiedTime(dataFile);
+        Files.writeString(dataFile, Files.readString(dataFile).replace("Alice Pauline", "Alice Paulina"));
+        Files.setLastModifiedTime(dataFile, lastModifiedTime);
+        List<Person> readBack = addressBookStorage.readAddressBook().get().getPersonList();
+        assertFalse(storage.readPersonIndex(readBack, addressBookStorage.getContentHash().get()).isPresent());
+    }
+
+    @Test
+    public void readPersonIndex_personWithoutListedTag_emptyResult() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(dataFile);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBookStorage.saveAddressBook(addressBook);
+        String contentHash = addressBookStorage.getContentHash().get();
+        PersonIndexStorage storage = new PersonIndexStorage(dataFile);
+        storage.savePersonIndex(PersonIndex.of(addressBook.getPersonList()), addressBook.getPersonList(),
+                contentHash);
+
+        // persons that do not match the stamp, such as if the index was saved with the wrong one
+        List<Person> untagged = addressBook.getPersonList().stream()
+                .map(person -> new PersonBuilder(person).withTags().build())
+                .collect(Collectors.toList());
+        assertFalse(storage.readPersonIndex(untagged, contentHash).isPresent());
+    }
+
+    @Test
+    public void readPersonIndex_corruptedFile_emptyResult() throws Exception {
+        Path dataFile = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(dataFile);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBookStorage.saveAddressBook(addressBook);
+        PersonIndexStorage storage = new PersonIndexStorage(dataFile);
+        Files.write(storage.getPersonIndexFilePath(), new byte[] {'A', 'B', '3'});
+
+        assertFalse(storage.readPersonIndex(addressBook.getPersonList(), addressBookStorage.getContentHash().get())
+                .isPresent());
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        assertThrows(NullPointerException.class, () -> new SegmentedAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.segments");
+        assertFalse(new SegmentedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite existing file, and read back with another storage
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_editOnePerson_onlyRewritesItsSegment() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Set<String> segmentsBefore = getSegmentFiles(filePath);
+
+        Person target = addressBook.getPersonList().get(3);
+        addressBook.setPerson(target, new PersonBuilder(target).withPhone("999").build());
+        storage.saveAddressBook(addressBook);
+
+        Set<String> segmentsAfter = getSegmentFiles(filePath);
+        assertEquals(segmentsBefore.size(), segmentsAfter.size());
+        assertEquals(1, segmentsAfter.stream().filter(file -> !segmentsBefore.contains(file)).count());
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_addPersons_onlyRewritesLastSegment() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> segmentsBefore = getSegmentFiles(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        Set<String> segmentsAfter = getSegmentFiles(filePath);
+        assertEquals(segmentsBefore.size() - 1, segmentsAfter.stream().filter(segmentsBefore::contains).count());
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_rewritesNoSegments() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> segmentsBefore = getSegmentFiles(filePath);
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(segmentsBefore, getSegmentFiles(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_equalPersonsAfterRead_rewritesNoSegments() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> segmentsBefore = getSegmentFiles(filePath);
+
+        // the model keeps its own persons where the ones read are equal, such as when applying outside changes
+        storage.readAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertEquals(segmentsBefore, getSegmentFiles(filePath));
+
+        Person target = addressBook.getPersonList().get(3);
+        addressBook.setPerson(target, new PersonBuilder(target).withPhone("999").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, getSegmentFiles(filePath).stream().filter(file -> !segmentsBefore.contains(file)).count());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        new SegmentedAddressBookStorage(filePath, SEGMENT_SIZE).saveAddressBook(getTypicalAddressBook());
+        Path segmentDirectory = SegmentedAddressBookStorage.getSegmentDirectory(filePath);
+        Files.delete(segmentDirectory.resolve(getSegmentFiles(filePath).iterator().next()));
+
+        assertThrows(DataConversionException.class, () -> new SegmentedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_segmentOutsideDirectory_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        Files.writeString(filePath, "{ \"nextSegmentId\": 1, \"segments\": [ \"../addressbook.bin\" ] }");
+        assertThrows(DataConversionException.class, () -> new SegmentedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonSiblingOnly_migratesJsonData() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(original);
+
+        Path filePath = testFolder.resolve("addressbook.segments");
+        ReadOnlyAddressBook migrated = new SegmentedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(migrated));
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.segments");
+        assertThrows(NullPointerException.class, () ->
+                new SegmentedAddressBookStorage(filePath).saveAddressBook(new AddressBook(), null));
+    }
+
+    private Set<String> getSegmentFiles(Path filePath) throws IOException {
+        try (Stream<Path> files = Files.list(SegmentedAddressBookStorage.getSegmentDirectory(filePath))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
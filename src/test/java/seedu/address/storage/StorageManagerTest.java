@@ -1,10 +1,17 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +21,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class StorageManagerTest {
 
@@ -60,6 +68,87 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_backupIntervalElapsed_backsUp() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        BackupStorage backupStorage = new BackupStorage(getTempFilePath("backups"));
+        StorageManager backedUpStorageManager = new StorageManager(addressBookStorage, userPrefsStorage,
+                backupStorage, Duration.ZERO);
+
+        AddressBook original = getTypicalAddressBook();
+        backedUpStorageManager.saveAddressBook(original);
+        backedUpStorageManager.saveAddressBook(new AddressBook());
+        List<String> backupIds = backedUpStorageManager.getBackupIds();
+        assertEquals(2, backupIds.size());
+
+        backedUpStorageManager.restoreAddressBook(backupIds.get(0));
+        assertEquals(original, new AddressBook(backedUpStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_backupIntervalNotElapsed_doesNotBackUp() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager backedUpStorageManager = new StorageManager(addressBookStorage, userPrefsStorage,
+                new BackupStorage(getTempFilePath("backups")), Duration.ofHours(1));
+
+        backedUpStorageManager.saveAddressBook(getTypicalAddressBook());
+        backedUpStorageManager.saveAddressBook(new AddressBook());
+        assertEquals(1, backedUpStorageManager.getBackupIds().size());
+    }
+
+    @Test
+    public void saveAddressBook_segmentedStorage_doesNotBackUp() throws Exception {
+        SegmentedAddressBookStorage addressBookStorage = new SegmentedAddressBookStorage(
+                getTempFilePath("ab" + SegmentedAddressBookStorage.FILE_EXTENSION));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager backedUpStorageManager = new StorageManager(addressBookStorage, userPrefsStorage,
+                new BackupStorage(getTempFilePath("backups")), Duration.ZERO);
+
+        backedUpStorageManager.saveAddressBook(getTypicalAddressBook());
+        backedUpStorageManager.saveAddressBook(new AddressBook());
+        assertTrue(backedUpStorageManager.getBackupIds().isEmpty());
+
+        // a backup of the manifest alone would list segments that have since been deleted
+        new BackupStorage(getTempFilePath("backups")).backup(addressBookStorage.getAddressBookFilePath());
+        String backupId = backedUpStorageManager.getBackupIds().get(0);
+        assertThrows(IOException.class, () -> backedUpStorageManager.restoreAddressBook(backupId));
+        assertEquals(new AddressBook(), new AddressBook(backedUpStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void isAddressBookFileAsSaved() throws Exception {
+        assertFalse(storageManager.isAddressBookFileAsSaved());
+
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertTrue(storageManager.isAddressBookFileAsSaved());
+
+        // changed by another program
+        Files.writeString(storageManager.getAddressBookFilePath(), "{ \"persons\": [] }");
+        assertFalse(storageManager.isAddressBookFileAsSaved());
+    }
+
+    @Test
+    public void readPersonIndex_savedWithAddressBook_readAfterRestart() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.getPersonIndex();
+        storageManager.saveAddressBook(original);
+
+        StorageManager restarted = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        // the hash of the data file is only known once it has been read
+        assertFalse(restarted.readPersonIndex(original.getPersonList()).isPresent());
+        List<Person> persons = restarted.readAddressBook().get().getPersonList();
+        assertEquals(original.getPersonIndex(), restarted.readPersonIndex(persons).get());
+    }
+
+    @Test
+    public void getBackupIds_backupsDisabled_returnsEmptyList() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertTrue(storageManager.getBackupIds().isEmpty());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
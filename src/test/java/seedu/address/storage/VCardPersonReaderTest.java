@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonImportResult.RowError;
+import seedu.address.testutil.PersonBuilder;
+
+public class VCardPersonReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndWrite_typicalPersons_success() throws Exception {
+        Path filePath = testFolder.resolve("contacts.vcf");
+        assertEquals(getTypicalPersons().size(), VCardPersonWriter.write(getTypicalPersons(), filePath));
+
+        PersonImportResult result = VCardPersonReader.read(filePath);
+        assertEquals(getTypicalPersons(), result.getPersons());
+        assertEquals(List.of(), result.getErrors());
+    }
+
+    @Test
+    public void readAndWrite_longAndEscapedValues_success() throws Exception {
+        Person person = new PersonBuilder().withAddress("Blk 1; Road, with a very long address that has to be folded "
+                + "over more than one line of the vCard \\ file").withTags("friends", "colleagues").build();
+        StringWriter out = new StringWriter();
+        VCardPersonWriter.write(List.of(person), out);
+
+        for (String line : out.toString().split("\r\n")) {
+            assertTrue(line.length() <= 75, line);
+        }
+        assertEquals(List.of(person), VCardPersonReader.read(new StringReader(out.toString())).getPersons());
+    }
+
+    @Test
+    public void readAndWrite_longNonAsciiValues_foldedByOctets() throws Exception {
+        // 3 octets per CJK character and 4 per emoji, which is a surrogate pair in Java
+        Person person = new PersonBuilder().withAddress("\u65b0\u52a0\u5761\u6e05\u6587\u5927\u9053".repeat(6)
+                + "\ud83c\udfe0".repeat(30)).build();
+        StringWriter out = new StringWriter();
+        VCardPersonWriter.write(List.of(person), out);
+
+        for (String line : out.toString().split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+            assertFalse(Character.isHighSurrogate(line.charAt(line.length() - 1)), line);
+        }
+        assertEquals(List.of(person), VCardPersonReader.read(new StringReader(out.toString())).getPersons());
+    }
+
+    @Test
+    public void read_otherClientCard_mapsProperties() throws Exception {
+        String card = "BEGIN:VCARD\n"
+                + "VERSION:4.0\n"
+                + "N:Doe;John;;Dr;\n"
+                + "TEL;TYPE=cell:+65 9876-5432\n"
+                + "TEL;TYPE=work:61234567\n"
+                + "item1.EMAIL;TYPE=INTERNET:johnd@example.com\n"
+                + "ADR;TYPE=home:;;311\\, Clementi Ave 2;Singapore;;1\n"
+                + " 20311;\n"
+                + "CATEGORIES:friends,owesMoney\n"
+                + "NOTE:ignored\n"
+                + "END:VCARD\n";
+
+        Person expected = new PersonBuilder().withName("Dr John Doe").withPhone("6598765432")
+                .withEmail("johnd@example.com").withAddress("311, Clementi Ave 2, Singapore, 120311")
+                .withTags("friends", "owesMoney").build();
+        assertEquals(List.of(expected), VCardPersonReader.read(new StringReader(card)).getPersons());
+    }
+
+    @Test
+    public void read_invalidCards_reportsLines() throws Exception {
+        String cards = "BEGIN:VCARD\n"
+                + "FN:Valid Person\nTEL:123\nEMAIL:valid@example.com\nADR:;;Street;;;;\n"
+                + "END:VCARD\n"
+                + "BEGIN:VCARD\n"
+                + "FN:Invalid Email\nTEL:123\nEMAIL:invalid\nADR:;;Street;;;;\n"
+                + "END:VCARD\n"
+                + "BEGIN:VCARD\n"
+                + "FN:Unterminated\n";
+
+        PersonImportResult result = VCardPersonReader.read(new StringReader(cards));
+        assertEquals(1, result.getPersons().size());
+        assertEquals(Arrays.asList(new RowError(7, Email.MESSAGE_CONSTRAINTS),
+                new RowError(13, VCardPersonReader.MESSAGE_UNTERMINATED_CARD)), result.getErrors());
+    }
+}